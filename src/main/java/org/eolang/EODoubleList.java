@@ -0,0 +1,67 @@
+package org.eolang;
+
+import org.eolang.core.EOObject;
+
+import java.util.Arrays;
+
+/**
+ * The packed list of floats behind arrays which elements are all {@link EOfloat} objects.
+ * The list stores the values themselves instead of the objects and their data,
+ * and it provides the elements as {@link EOfloat} objects on access.
+ */
+final class EODoubleList extends EOPackedList {
+
+    /**
+     * The values of the elements, the array is never modified.
+     */
+    private final double[] values;
+
+    EODoubleList(double[] values) {
+        this(values, 0, values.length, false);
+    }
+
+    private EODoubleList(double[] values, int offset, int size, boolean reversed) {
+        super(offset, size, reversed);
+        this.values = values;
+    }
+
+    /**
+     * Packs {@code objects} if all of them are {@link EOfloat} objects.
+     *
+     * @return The packed list, or null if {@code objects} can't be packed.
+     */
+    static EODoubleList pack(EOObject[] objects) {
+        double[] values = new double[objects.length];
+        for (int i = 0; i < objects.length; i++) {
+            if (objects[i] == null || objects[i].getClass() != EOfloat.class) {
+                return null;
+            }
+            values[i] = ((EOfloat) objects[i]).value();
+        }
+        return new EODoubleList(values);
+    }
+
+    @Override
+    public EOObject get(int index) {
+        return new EOfloat(value(index));
+    }
+
+    /**
+     * Provides the value of the element at the position {@code index}.
+     */
+    double value(int index) {
+        return values[position(index)];
+    }
+
+    @Override
+    EODoubleList view(int offset, int size, boolean reversed) {
+        return new EODoubleList(values, offset, size, reversed);
+    }
+
+    @Override
+    EODoubleList sorted() {
+        double[] result = Arrays.copyOfRange(values, offset(), offset() + size());
+        Arrays.sort(result);
+        return new EODoubleList(result);
+    }
+}
@@ -0,0 +1,67 @@
+package org.eolang;
+
+import org.eolang.core.EOObject;
+
+import java.util.Arrays;
+
+/**
+ * The packed list of ints behind arrays which elements are all {@link EOint} objects.
+ * The list stores the values themselves instead of the objects and their data,
+ * and it provides the elements as {@link EOint} objects on access.
+ */
+final class EOLongList extends EOPackedList {
+
+    /**
+     * The values of the elements, the array is never modified.
+     */
+    private final long[] values;
+
+    EOLongList(long[] values) {
+        this(values, 0, values.length, false);
+    }
+
+    private EOLongList(long[] values, int offset, int size, boolean reversed) {
+        super(offset, size, reversed);
+        this.values = values;
+    }
+
+    /**
+     * Packs {@code objects} if all of them are {@link EOint} objects.
+     *
+     * @return The packed list, or null if {@code objects} can't be packed.
+     */
+    static EOLongList pack(EOObject[] objects) {
+        long[] values = new long[objects.length];
+        for (int i = 0; i < objects.length; i++) {
+            if (objects[i] == null || objects[i].getClass() != EOint.class) {
+                return null;
+            }
+            values[i] = ((EOint) objects[i]).value();
+        }
+        return new EOLongList(values);
+    }
+
+    @Override
+    public EOObject get(int index) {
+        return EOint.of(value(index));
+    }
+
+    /**
+     * Provides the value of the element at the position {@code index}.
+     */
+    long value(int index) {
+        return values[position(index)];
+    }
+
+    @Override
+    EOLongList view(int offset, int size, boolean reversed) {
+        return new EOLongList(values, offset, size, reversed);
+    }
+
+    @Override
+    EOLongList sorted() {
+        long[] result = Arrays.copyOfRange(values, offset(), offset() + size());
+        Arrays.sort(result);
+        return new EOLongList(result);
+    }
+}
@@ -0,0 +1,93 @@
+package org.eolang;
+
+import org.eolang.core.EOObject;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The lazy view of the elements of a list transformed by a mapper.
+ * An element is transformed only when it is accessed for the first time, and the result is memoized,
+ * so pipelines that read few elements of mapped arrays do not transform the rest of them.
+ * Once all the elements are transformed, the view releases the original list and the mapper.
+ * <p>
+ * The view can be shared between threads. If several threads access an element that is not transformed yet
+ * simultaneously, each of them may transform it, but all of them get the same (first memoized) result.
+ */
+final class EOMappedList extends AbstractList<EOObject> implements RandomAccess {
+
+    /**
+     * The transformation of the elements.
+     */
+    interface Mapper {
+        /**
+         * Transforms the {@code element} at the position {@code index}.
+         */
+        EOObject apply(EOObject element, int index);
+    }
+
+    /**
+     * The transformed elements, null stands for the elements that are not transformed yet.
+     */
+    private final AtomicReferenceArray<EOObject> mapped;
+
+    /**
+     * The number of the elements that are not transformed yet.
+     */
+    private final AtomicInteger remaining;
+
+    /**
+     * The original list and the mapper, they are released (set to null) once all the elements are transformed.
+     */
+    private volatile Origin origin;
+
+    EOMappedList(List<EOObject> source, Mapper mapper) {
+        this.mapped = new AtomicReferenceArray<>(source.size());
+        this.remaining = new AtomicInteger(source.size());
+        this.origin = new Origin(source, mapper);
+    }
+
+    @Override
+    public int size() {
+        return mapped.length();
+    }
+
+    @Override
+    public EOObject get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size()));
+        }
+        // the origin is read before the element, so it is released only if the element is already transformed
+        Origin current = origin;
+        EOObject result = mapped.get(index);
+        if (result != null) {
+            return result;
+        }
+        result = current.mapper.apply(current.source.get(index), index);
+        if (!mapped.compareAndSet(index, null, result)) {
+            return mapped.get(index);
+        }
+        if (remaining.decrementAndGet() == 0) {
+            origin = null;
+        }
+        return result;
+    }
+
+    /**
+     * The original list along with the mapper.
+     */
+    private static final class Origin {
+
+        private final List<EOObject> source;
+
+        private final Mapper mapper;
+
+        private Origin(List<EOObject> source, Mapper mapper) {
+            this.source = source;
+            this.mapper = mapper;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.eolang;
+
+import org.eolang.core.EOObject;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * The packed list of numbers behind arrays which elements are all ints (see {@link EOLongList})
+ * or all floats (see {@link EODoubleList}).
+ * The list is a view of a range of the array of the values, read either in the direct or in the reverse order,
+ * so reversing and slicing share the values with the original list, take O(1) and keep the list packed.
+ * The subclasses store the values and provide them; this class maps the positions of the elements
+ * to the positions of their values.
+ */
+abstract class EOPackedList extends AbstractList<EOObject> implements RandomAccess {
+
+    /**
+     * The position of the first value of the range in the array of the values.
+     */
+    private final int offset;
+
+    /**
+     * The number of the values in the range.
+     */
+    private final int size;
+
+    /**
+     * Whether the elements are the values of the range in the reverse order.
+     */
+    private final boolean reversed;
+
+    EOPackedList(int offset, int size, boolean reversed) {
+        this.offset = offset;
+        this.size = size;
+        this.reversed = reversed;
+    }
+
+    @Override
+    public final int size() {
+        return size;
+    }
+
+    /**
+     * Provides the view of the same values in the range of {@code size} values starting at {@code offset}.
+     */
+    abstract EOPackedList view(int offset, int size, boolean reversed);
+
+    /**
+     * Provides the list of the elements of this list in the ascending order of their values.
+     */
+    abstract EOPackedList sorted();
+
+    /**
+     * Provides the list of the elements of this list in the reverse order.
+     * The reversed list shares the values with this list, so reversing takes O(1).
+     */
+    final EOPackedList reversed() {
+        return view(offset, size, !reversed);
+    }
+
+    /**
+     * Provides the list of the elements of this list from {@code from} (inclusive) to {@code to} (exclusive).
+     * The slice shares the values with this list, so slicing takes O(1). The bounds must be checked by the caller.
+     */
+    final EOPackedList slice(int from, int to) {
+        return view(reversed ? offset + size - to : offset + from, to - from, reversed);
+    }
+
+    /**
+     * Provides the position in the array of the values of the value of the element at the position {@code index}.
+     *
+     * @throws IndexOutOfBoundsException Thrown when there is no element at the position {@code index}.
+     */
+    final int position(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size));
+        }
+        return reversed ? offset + size - 1 - index : offset + index;
+    }
+
+    /**
+     * Provides the position in the array of the values of the first value of the range.
+     */
+    final int offset() {
+        return offset;
+    }
+}
@@ -0,0 +1,94 @@
+package org.eolang;
+
+import org.eolang.core.EOObject;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The lazy view of all pairs of the elements of a list (2-combinations without repetitions).
+ * The pairs are ordered lexicographically by the positions of their elements:
+ * (0, 1), (0, 2), ..., (0, n-1), (1, 2), ..., (n-2, n-1).
+ * The pair at any position is computed from the position itself on access,
+ * so the view takes O(1) memory regardless of the number of pairs.
+ */
+final class EOPairsList extends AbstractList<EOObject> implements RandomAccess {
+
+    /**
+     * The list which elements are paired, it is never modified.
+     */
+    private final List<EOObject> source;
+
+    /**
+     * The maximum number of the elements of a list which pairs fit a view:
+     * 65536 elements make 2147450880 pairs, and 65537 ones make more pairs than {@link Integer#MAX_VALUE}.
+     */
+    static final int MAX_SOURCE = 65_536;
+
+    /**
+     * The number of the pairs, n(n-1)/2.
+     */
+    private final int size;
+
+    /**
+     * @throws IllegalArgumentException Thrown when {@code source} has more than {@link #MAX_SOURCE} elements.
+     */
+    EOPairsList(List<EOObject> source) {
+        long length = source.size();
+        if (length > MAX_SOURCE) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Cannot produce the pairs of the following array: it has %d elements, so it has %d pairs, " +
+                                    "but an array can hold %d elements at most. " +
+                                    "Arrays of more than %d elements can be paired with the eachPair attribute.",
+                            length, length * (length - 1) / 2, Integer.MAX_VALUE, MAX_SOURCE
+                    )
+            );
+        }
+        this.source = source;
+        this.size = (int) (length * (length - 1) / 2);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public EOObject get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size));
+        }
+        int first = first(index);
+        int second = (int) (index - preceding(first)) + first + 1;
+        return new EOtuple(source.get(first), source.get(second));
+    }
+
+    /**
+     * The number of the pairs which first element precedes the {@code first}-th one,
+     * i.e. (n-1) + (n-2) + ... + (n-first).
+     */
+    private long preceding(int first) {
+        long length = source.size();
+        return first * (2 * length - first - 1) / 2;
+    }
+
+    /**
+     * The position of the first element of the {@code index}-th pair,
+     * i.e. the greatest {@code first} such that {@code preceding(first) <= index}.
+     */
+    private int first(int index) {
+        long length = source.size();
+        // the root of preceding(first) = index, it may be inexact because of the rounding
+        double root = ((2 * length - 1) - Math.sqrt((2.0 * length - 1) * (2.0 * length - 1) - 8.0 * index)) / 2;
+        int first = (int) Math.max(0, Math.min(length - 2, (long) root));
+        while (first > 0 && preceding(first) > index) {
+            first--;
+        }
+        while (first < length - 2 && preceding(first + 1) <= index) {
+            first++;
+        }
+        return first;
+    }
+}
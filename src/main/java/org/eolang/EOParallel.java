@@ -0,0 +1,137 @@
+package org.eolang;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/**
+ * Runs the parallel attributes of arrays on the common {@link ForkJoinPool}.
+ * The range of the elements is split in halves recursively until the parts are not longer
+ * than the sequential cutoff (set by the {@code eo.parallel.cutoff} system property, 64 by default),
+ * and the parts are processed by the workers of the pool.
+ */
+final class EOParallel {
+
+    /**
+     * The maximum number of elements that are processed sequentially by a single task.
+     */
+    static final int CUTOFF = Math.max(1, Integer.getInteger("eo.parallel.cutoff", 64));
+
+    private EOParallel() {
+    }
+
+    /**
+     * An operation over a range of the elements.
+     */
+    interface Range {
+        /**
+         * Processes the elements from {@code from} (inclusive) to {@code to} (exclusive).
+         */
+        void apply(int from, int to);
+    }
+
+    /**
+     * An operation that folds a range of the elements into a partial result.
+     */
+    interface Fold<T> {
+        /**
+         * Folds the elements from {@code from} (inclusive) to {@code to} (exclusive).
+         */
+        T apply(int from, int to);
+    }
+
+    /**
+     * Applies {@code action} to the parts of the range of {@code length} elements in parallel,
+     * and waits for all the parts to be processed.
+     * Short ranges are processed in the calling thread.
+     *
+     * @throws RuntimeException Thrown when {@code action} fails on any of the parts.
+     */
+    static void forEach(int length, Range action) {
+        if (length <= CUTOFF) {
+            action.apply(0, length);
+        } else {
+            ForkJoinPool.commonPool().invoke(new Split(0, length, action));
+        }
+    }
+
+    /**
+     * Folds the parts of the range of {@code length} elements in parallel
+     * and combines the partial results pairwise, always keeping the left part on the left.
+     * Short ranges are folded in the calling thread.
+     *
+     * @throws RuntimeException Thrown when {@code fold} or {@code combine} fails on any of the parts.
+     */
+    static <T> T reduce(int length, Fold<T> fold, BinaryOperator<T> combine) {
+        if (length <= CUTOFF) {
+            return fold.apply(0, length);
+        }
+        return ForkJoinPool.commonPool().invoke(new Reduction<>(0, length, fold, combine));
+    }
+
+    /**
+     * The task processing a part of the range.
+     */
+    private static final class Split extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+
+        private final int to;
+
+        private final Range action;
+
+        private Split(int from, int to, Range action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CUTOFF) {
+                action.apply(from, to);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Split(from, middle, action), new Split(middle, to, action));
+            }
+        }
+    }
+
+    /**
+     * The task folding a part of the range.
+     */
+    private static final class Reduction<T> extends RecursiveTask<T> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+
+        private final int to;
+
+        private final Fold<T> fold;
+
+        private final BinaryOperator<T> combine;
+
+        private Reduction(int from, int to, Fold<T> fold, BinaryOperator<T> combine) {
+            this.from = from;
+            this.to = to;
+            this.fold = fold;
+            this.combine = combine;
+        }
+
+        @Override
+        protected T compute() {
+            if (to - from <= CUTOFF) {
+                return fold.apply(from, to);
+            }
+            int middle = (from + to) >>> 1;
+            Reduction<T> right = new Reduction<>(middle, to, fold, combine);
+            right.fork();
+            T left = new Reduction<>(from, middle, fold, combine).compute();
+            return combine.apply(left, right.join());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.eolang;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the regular expressions used by the attributes of strings compiled.
+ * The most recently used patterns are kept (their number is set by the {@code eo.regex.cache}
+ * system property, 64 by default), so the patterns used in loops are compiled once.
+ */
+final class EOPatterns {
+
+    /**
+     * The maximum number of the compiled patterns kept.
+     */
+    private static final int SIZE = Math.max(0, Integer.getInteger("eo.regex.cache", 64));
+
+    /**
+     * The compiled patterns by their regular expressions, the least recently used ones go first.
+     */
+    private static final Map<String, Pattern> CACHE = new LinkedHashMap<String, Pattern>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+            return size() > SIZE;
+        }
+    };
+
+    private EOPatterns() {
+    }
+
+    /**
+     * Provides the compiled {@code regex}.
+     *
+     * @throws java.util.regex.PatternSyntaxException Thrown when {@code regex} is not a valid regular expression.
+     */
+    static Pattern compile(String regex) {
+        synchronized (CACHE) {
+            Pattern pattern = CACHE.get(regex);
+            if (pattern != null) {
+                return pattern;
+            }
+        }
+        // patterns are compiled out of the lock, so racing threads may only compile a pattern more than once
+        Pattern pattern = Pattern.compile(regex);
+        synchronized (CACHE) {
+            CACHE.put(regex, pattern);
+        }
+        return pattern;
+    }
+}
@@ -0,0 +1,48 @@
+package org.eolang;
+
+import org.eolang.core.EOObject;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The view of the elements of a list in the reversed order.
+ * The view shares the elements with the list, so reversing takes O(1).
+ */
+final class EOReversedList extends AbstractList<EOObject> implements RandomAccess {
+
+    /**
+     * The reversed list, it is never modified.
+     */
+    private final List<EOObject> source;
+
+    private EOReversedList(List<EOObject> source) {
+        this.source = source;
+    }
+
+    /**
+     * Provides the view of {@code list} in the reversed order.
+     *
+     * @return The original list if {@code list} is a reversed view itself, or a new view otherwise.
+     */
+    static List<EOObject> of(List<EOObject> list) {
+        if (list instanceof EOReversedList) {
+            return ((EOReversedList) list).source;
+        }
+        return new EOReversedList(list);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    public EOObject get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size()));
+        }
+        return source.get(source.size() - 1 - index);
+    }
+}
@@ -0,0 +1,286 @@
+package org.eolang;
+
+/**
+ * The immutable text behind strings.
+ * <p>
+ * The text is a rope: a balanced (AVL) binary tree which leaves are pieces of strings,
+ * and which inner nodes concatenate their subtrees. Concatenating two ropes joins their trees
+ * and taking a part of a rope shares the pieces with it, so both take O(log n) and copy no characters
+ * (except the ones of short pieces, which are merged to keep the tree small).
+ * A part of a string keeps the whole string reachable until the part is flattened: the data of strings
+ * keeps only the flattened {@link String} (see {@link org.eolang.core.data.EOTextData}), so dataized parts
+ * release the strings they were taken from.
+ * The rope is flattened into a {@link String} only when the string is needed, and the flattened string is memoized.
+ */
+abstract class EORope implements CharSequence {
+
+    /**
+     * The maximum length of the concatenation of two ropes that is copied into a single piece.
+     */
+    private static final int FLAT = 256;
+
+    /**
+     * The empty rope.
+     */
+    static final EORope EMPTY = new Piece("", 0, 0);
+
+    /**
+     * Provides the rope of {@code text}.
+     */
+    static EORope of(String text) {
+        return text.isEmpty() ? EMPTY : new Piece(text, 0, text.length());
+    }
+
+    /**
+     * The height of the tree, pieces have the zero height.
+     */
+    abstract int height();
+
+    /**
+     * Appends the characters from {@code start} (inclusive) to {@code end} (exclusive) to {@code builder}.
+     */
+    abstract void appendTo(StringBuilder builder, int start, int end);
+
+    /**
+     * Provides the part of this rope from {@code start} (inclusive) to {@code end} (exclusive),
+     * the bounds are already checked.
+     */
+    abstract EORope slice(int start, int end);
+
+    @Override
+    public final EORope subSequence(int start, int end) {
+        if (start < 0 || start > end || end > length()) {
+            throw new StringIndexOutOfBoundsException(
+                    String.format("begin %d, end %d, length %d", start, end, length())
+            );
+        }
+        if (start == 0 && end == length()) {
+            return this;
+        }
+        if (start == end) {
+            return EMPTY;
+        }
+        return slice(start, end);
+    }
+
+    /**
+     * Provides a single piece with the characters of this rope.
+     * The piece refers to the flattened text of a tree, so its parts are taken in constant time
+     * and keep no nodes of the tree.
+     */
+    EORope flattened() {
+        return of(toString());
+    }
+
+    /**
+     * Provides the rope of the characters of this rope followed by the characters of {@code other}.
+     */
+    final EORope concat(EORope other) {
+        if (other.length() == 0) {
+            return this;
+        }
+        if (length() == 0) {
+            return other;
+        }
+        if (length() + other.length() <= FLAT) {
+            return of(toString() + other);
+        }
+        int left = height();
+        int right = other.height();
+        if (left > right + 1) {
+            return ((Node) this).joinedRight(other);
+        }
+        if (right > left + 1) {
+            return ((Node) other).joinedLeft(this);
+        }
+        return new Node(this, other);
+    }
+
+    /**
+     * A piece of a string, it refers to the characters of the string instead of copying them.
+     */
+    private static final class Piece extends EORope {
+
+        private final String text;
+
+        private final int offset;
+
+        private final int length;
+
+        private Piece(String text, int offset, int length) {
+            this.text = text;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        int height() {
+            return 0;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new StringIndexOutOfBoundsException(index);
+            }
+            return text.charAt(offset + index);
+        }
+
+        @Override
+        void appendTo(StringBuilder builder, int start, int end) {
+            builder.append(text, offset + start, offset + end);
+        }
+
+        @Override
+        EORope slice(int start, int end) {
+            return new Piece(text, offset + start, end - start);
+        }
+
+        @Override
+        EORope flattened() {
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return text.substring(offset, offset + length);
+        }
+    }
+
+    /**
+     * The concatenation of two ropes, which heights differ by one at most.
+     */
+    private static final class Node extends EORope {
+
+        private final EORope left;
+
+        private final EORope right;
+
+        private final int length;
+
+        private final int height;
+
+        /**
+         * The flattened text, it is computed on the first request.
+         */
+        private volatile String flat;
+
+        private Node(EORope left, EORope right) {
+            this.left = left;
+            this.right = right;
+            this.length = left.length() + right.length();
+            this.height = Math.max(left.height(), right.height()) + 1;
+        }
+
+        @Override
+        int height() {
+            return height;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new StringIndexOutOfBoundsException(index);
+            }
+            String text = flat;
+            if (text != null) {
+                return text.charAt(index);
+            }
+            EORope rope = this;
+            while (rope instanceof Node) {
+                Node node = (Node) rope;
+                if (index < node.left.length()) {
+                    rope = node.left;
+                } else {
+                    index -= node.left.length();
+                    rope = node.right;
+                }
+            }
+            return rope.charAt(index);
+        }
+
+        @Override
+        void appendTo(StringBuilder builder, int start, int end) {
+            String text = flat;
+            if (text != null) {
+                builder.append(text, start, end);
+                return;
+            }
+            int middle = left.length();
+            if (start < middle) {
+                left.appendTo(builder, start, Math.min(end, middle));
+            }
+            if (end > middle) {
+                right.appendTo(builder, Math.max(start, middle) - middle, end - middle);
+            }
+        }
+
+        @Override
+        EORope slice(int start, int end) {
+            int middle = left.length();
+            if (end <= middle) {
+                return left.subSequence(start, end);
+            }
+            if (start >= middle) {
+                return right.subSequence(start - middle, end - middle);
+            }
+            return left.subSequence(start, middle).concat(right.subSequence(0, end - middle));
+        }
+
+        /**
+         * Joins {@code other}, which is lower than this rope by two levels at least, to the right of this rope.
+         */
+        EORope joinedRight(EORope other) {
+            EORope joined = right.height() <= other.height() + 1 ? right.concat(other) : ((Node) right).joinedRight(other);
+            if (joined.height() <= left.height() + 1) {
+                return new Node(left, joined);
+            }
+            // the joined rope is too high, so it is rotated to the left
+            Node high = (Node) joined;
+            if (high.left.height() > high.right.height()) {
+                Node inner = (Node) high.left;
+                return new Node(new Node(left, inner.left), new Node(inner.right, high.right));
+            }
+            return new Node(new Node(left, high.left), high.right);
+        }
+
+        /**
+         * Joins {@code other}, which is lower than this rope by two levels at least, to the left of this rope.
+         */
+        EORope joinedLeft(EORope other) {
+            EORope joined = left.height() <= other.height() + 1 ? other.concat(left) : ((Node) left).joinedLeft(other);
+            if (joined.height() <= right.height() + 1) {
+                return new Node(joined, right);
+            }
+            // the joined rope is too high, so it is rotated to the right
+            Node high = (Node) joined;
+            if (high.right.height() > high.left.height()) {
+                Node inner = (Node) high.right;
+                return new Node(new Node(high.left, inner.left), new Node(inner.right, right));
+            }
+            return new Node(high.left, new Node(high.right, right));
+        }
+
+        @Override
+        public String toString() {
+            String text = flat;
+            if (text == null) {
+                StringBuilder builder = new StringBuilder(length);
+                appendTo(builder, 0, length);
+                text = builder.toString();
+                flat = text;
+            }
+            return text;
+        }
+    }
+}
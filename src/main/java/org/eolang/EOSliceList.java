@@ -0,0 +1,58 @@
+package org.eolang;
+
+import org.eolang.core.EOObject;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The view of a range of the elements of a list.
+ * The view shares the elements with the list, so slicing takes O(1),
+ * and slices of slices refer to the original list directly.
+ */
+final class EOSliceList extends AbstractList<EOObject> implements RandomAccess {
+
+    /**
+     * The sliced list, it is never modified.
+     */
+    private final List<EOObject> source;
+
+    /**
+     * The position of the first element of the slice in {@link #source}.
+     */
+    private final int offset;
+
+    private final int size;
+
+    private EOSliceList(List<EOObject> source, int offset, int size) {
+        this.source = source;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    /**
+     * Provides the view of the elements of {@code list} from {@code from} (inclusive) to {@code to} (exclusive).
+     * The bounds must be checked by the caller.
+     */
+    static List<EOObject> of(List<EOObject> list, int from, int to) {
+        if (list instanceof EOSliceList) {
+            EOSliceList slice = (EOSliceList) list;
+            return new EOSliceList(slice.source, slice.offset + from, to - from);
+        }
+        return new EOSliceList(list, from, to - from);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public EOObject get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size));
+        }
+        return source.get(offset + index);
+    }
+}
@@ -0,0 +1,496 @@
+package org.eolang;
+
+import org.eolang.core.EOObject;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * The persistent (immutable) list of EO objects behind modified arrays.
+ * <p>
+ * The list is a relaxed B+tree: the elements are stored in leaves of up to 32 elements,
+ * and every branch refers to up to 32 subtrees and keeps their cumulative sizes (so the tree is not
+ * required to be perfectly dense, unlike a trie). All leaves have the same depth, and all nodes
+ * except the root are at least half full, so the depth of the tree is O(log32 n).
+ * <p>
+ * Modifications never change the tree: they copy the path from the root to the modified leaf
+ * and share the rest of the tree with the original list. Thus, {@link #get(int)} takes O(log32 n),
+ * {@link #replaced(int, EOObject)} and {@link #appended(EOObject)} copy O(log32 n) nodes,
+ * and {@link #inserted(int, EOObject)}, {@link #removed(int)} and {@link #concat(EOVector)} take O(log n).
+ */
+final class EOVector extends AbstractList<EOObject> {
+
+    /**
+     * The maximum number of entries of a node.
+     */
+    private static final int MAX = 32;
+
+    /**
+     * The minimum number of entries of a non-root node.
+     */
+    private static final int MIN = MAX / 2;
+
+    /**
+     * The empty list.
+     */
+    private static final EOVector EMPTY = new EOVector(new Leaf(new EOObject[0]));
+
+    /**
+     * The root of the tree.
+     */
+    private final Node root;
+
+    private EOVector(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Provides the persistent list of {@code elements}.
+     *
+     * @param elements The elements of the list (they are copied).
+     * @return The list itself if {@code elements} is already a persistent list, or a new balanced tree otherwise.
+     */
+    static EOVector of(List<EOObject> elements) {
+        if (elements instanceof EOVector) {
+            return (EOVector) elements;
+        }
+        if (elements.isEmpty()) {
+            return EMPTY;
+        }
+        EOObject[] items = elements.toArray(new EOObject[0]);
+        Node[] level = new Node[chunks(items.length)];
+        for (int i = 0, from = 0; i < level.length; i++) {
+            int to = from + chunk(items.length, level.length, i);
+            level[i] = new Leaf(Arrays.copyOfRange(items, from, to));
+            from = to;
+        }
+        while (level.length > 1) {
+            Node[] parents = new Node[chunks(level.length)];
+            for (int i = 0, from = 0; i < parents.length; i++) {
+                int to = from + chunk(level.length, parents.length, i);
+                parents[i] = Branch.of(Arrays.copyOfRange(level, from, to));
+                from = to;
+            }
+            level = parents;
+        }
+        return new EOVector(level[0]);
+    }
+
+    /**
+     * The number of nodes {@code count} entries are split into.
+     */
+    private static int chunks(int count) {
+        return (count + MAX - 1) / MAX;
+    }
+
+    /**
+     * The number of entries of the {@code index}-th of {@code chunks} nodes that evenly share {@code count} entries.
+     * Since the nodes are as full as possible, each of them has at least {@link #MIN} entries when there are several nodes.
+     */
+    private static int chunk(int count, int chunks, int index) {
+        return count / chunks + (index < count % chunks ? 1 : 0);
+    }
+
+    @Override
+    public int size() {
+        return root.size();
+    }
+
+    @Override
+    public EOObject get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size()));
+        }
+        Node node = root;
+        while (node instanceof Branch) {
+            Branch branch = (Branch) node;
+            int child = branch.childAt(index);
+            index -= branch.start(child);
+            node = branch.children[child];
+        }
+        return ((Leaf) node).items[index];
+    }
+
+    @Override
+    public Iterator<EOObject> iterator() {
+        return new Iterator<EOObject>() {
+            private int index;
+            private EOObject[] leaf = new EOObject[0];
+            private int offset;
+
+            @Override
+            public boolean hasNext() {
+                return index < size();
+            }
+
+            @Override
+            public EOObject next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (index - offset >= leaf.length) {
+                    // descend to the next leaf once per leaf instead of once per element
+                    Node node = root;
+                    offset = index;
+                    int position = index;
+                    while (node instanceof Branch) {
+                        Branch branch = (Branch) node;
+                        int child = branch.childAt(position);
+                        position -= branch.start(child);
+                        node = branch.children[child];
+                    }
+                    leaf = ((Leaf) node).items;
+                    offset -= position;
+                }
+                return leaf[index++ - offset];
+            }
+        };
+    }
+
+    /**
+     * Provides a copy of this list with {@code element} at the position {@code index}.
+     */
+    EOVector replaced(int index, EOObject element) {
+        return new EOVector(root.replaced(index, element));
+    }
+
+    /**
+     * Provides a copy of this list with {@code element} appended to its end.
+     */
+    EOVector appended(EOObject element) {
+        return inserted(size(), element);
+    }
+
+    /**
+     * Provides a copy of this list with {@code element} inserted at the position {@code index}.
+     */
+    EOVector inserted(int index, EOObject element) {
+        return new EOVector(Node.root(root.inserted(index, element)));
+    }
+
+    /**
+     * Provides a copy of this list without the element at the position {@code index}.
+     */
+    EOVector removed(int index) {
+        Node result = root.removed(index);
+        while (result instanceof Branch && ((Branch) result).children.length == 1) {
+            result = ((Branch) result).children[0];
+        }
+        return new EOVector(result);
+    }
+
+    /**
+     * Provides the list of the elements of this list followed by the elements of {@code other}.
+     */
+    EOVector concat(EOVector other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        int left = root.height();
+        int right = other.root.height();
+        if (left == right) {
+            return new EOVector(Node.root(Node.merge(root, other.root)));
+        }
+        if (left > right) {
+            return new EOVector(Node.root(((Branch) root).joinedRight(other.root, right)));
+        }
+        return new EOVector(Node.root(((Branch) other.root).joinedLeft(root, left)));
+    }
+
+    /**
+     * A node of the tree.
+     */
+    private abstract static class Node {
+
+        /**
+         * The number of elements in the subtree.
+         */
+        abstract int size();
+
+        /**
+         * The number of levels below this node.
+         */
+        abstract int height();
+
+        /**
+         * The number of entries (elements or children) of this node.
+         */
+        abstract int entries();
+
+        /**
+         * Copies the entries {@code from} (inclusive) {@code to} (exclusive) of this node and {@code other}
+         * (which is a node of the same kind) concatenated to a node of the same kind.
+         */
+        abstract Node slice(Node other, int from, int to);
+
+        abstract Node replaced(int index, EOObject element);
+
+        /**
+         * Inserts the element into the subtree.
+         *
+         * @return The copy of this node, or two nodes if the copy overflows.
+         */
+        abstract Node[] inserted(int index, EOObject element);
+
+        /**
+         * Removes the element from the subtree.
+         *
+         * @return The copy of this node, which may be less than half full.
+         */
+        abstract Node removed(int index);
+
+        /**
+         * Wraps the nodes into a new root if there are two of them.
+         */
+        static Node root(Node[] nodes) {
+            return nodes.length == 1 ? nodes[0] : Branch.of(nodes);
+        }
+
+        /**
+         * Merges two adjacent nodes of the same height into one node,
+         * or redistributes their entries between two nodes that are at least half full if they do not fit into one.
+         */
+        static Node[] merge(Node left, Node right) {
+            int total = left.entries() + right.entries();
+            if (total <= MAX) {
+                return new Node[] {left.slice(right, 0, total)};
+            }
+            int half = total / 2;
+            return new Node[] {left.slice(right, 0, half), left.slice(right, half, total)};
+        }
+    }
+
+    /**
+     * A leaf, which stores the elements themselves.
+     */
+    private static final class Leaf extends Node {
+
+        private final EOObject[] items;
+
+        private Leaf(EOObject[] items) {
+            this.items = items;
+        }
+
+        @Override
+        int size() {
+            return items.length;
+        }
+
+        @Override
+        int height() {
+            return 0;
+        }
+
+        @Override
+        int entries() {
+            return items.length;
+        }
+
+        @Override
+        Node slice(Node other, int from, int to) {
+            EOObject[] tail = ((Leaf) other).items;
+            EOObject[] result = new EOObject[to - from];
+            for (int i = from; i < to; i++) {
+                result[i - from] = i < items.length ? items[i] : tail[i - items.length];
+            }
+            return new Leaf(result);
+        }
+
+        @Override
+        Node replaced(int index, EOObject element) {
+            EOObject[] result = items.clone();
+            result[index] = element;
+            return new Leaf(result);
+        }
+
+        @Override
+        Node[] inserted(int index, EOObject element) {
+            EOObject[] result = new EOObject[items.length + 1];
+            System.arraycopy(items, 0, result, 0, index);
+            result[index] = element;
+            System.arraycopy(items, index, result, index + 1, items.length - index);
+            if (result.length <= MAX) {
+                return new Node[] {new Leaf(result)};
+            }
+            int half = result.length / 2;
+            return new Node[] {
+                    new Leaf(Arrays.copyOfRange(result, 0, half)),
+                    new Leaf(Arrays.copyOfRange(result, half, result.length))
+            };
+        }
+
+        @Override
+        Node removed(int index) {
+            EOObject[] result = new EOObject[items.length - 1];
+            System.arraycopy(items, 0, result, 0, index);
+            System.arraycopy(items, index + 1, result, index, items.length - index - 1);
+            return new Leaf(result);
+        }
+    }
+
+    /**
+     * A branch, which refers to subtrees of the same height.
+     */
+    private static final class Branch extends Node {
+
+        private final Node[] children;
+
+        /**
+         * The cumulative sizes of the subtrees: {@code ends[i]} is the number of elements in the first {@code i + 1} subtrees.
+         */
+        private final int[] ends;
+
+        private final int height;
+
+        private Branch(Node[] children, int[] ends, int height) {
+            this.children = children;
+            this.ends = ends;
+            this.height = height;
+        }
+
+        static Branch of(Node[] children) {
+            int[] ends = new int[children.length];
+            int total = 0;
+            for (int i = 0; i < children.length; i++) {
+                total += children[i].size();
+                ends[i] = total;
+            }
+            return new Branch(children, ends, children[0].height() + 1);
+        }
+
+        @Override
+        int size() {
+            return ends[ends.length - 1];
+        }
+
+        @Override
+        int height() {
+            return height;
+        }
+
+        @Override
+        int entries() {
+            return children.length;
+        }
+
+        /**
+         * The number of elements in the subtrees preceding the {@code child}-th one.
+         */
+        int start(int child) {
+            return child == 0 ? 0 : ends[child - 1];
+        }
+
+        /**
+         * The index of the subtree that contains the element at the position {@code index},
+         * or the last subtree if the position is right after the end of this subtree.
+         */
+        int childAt(int index) {
+            int low = 0;
+            int high = ends.length - 1;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (ends[middle] <= index) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        @Override
+        Node slice(Node other, int from, int to) {
+            Node[] tail = ((Branch) other).children;
+            Node[] result = new Node[to - from];
+            for (int i = from; i < to; i++) {
+                result[i - from] = i < children.length ? children[i] : tail[i - children.length];
+            }
+            return of(result);
+        }
+
+        @Override
+        Node replaced(int index, EOObject element) {
+            int child = childAt(index);
+            Node[] result = children.clone();
+            result[child] = children[child].replaced(index - start(child), element);
+            return new Branch(result, ends, height);
+        }
+
+        @Override
+        Node[] inserted(int index, EOObject element) {
+            int child = childAt(index);
+            return replace(child, 1, children[child].inserted(index - start(child), element));
+        }
+
+        @Override
+        Node removed(int index) {
+            int child = childAt(index);
+            Node result = children[child].removed(index - start(child));
+            if (result.entries() >= MIN || children.length == 1) {
+                return replace(child, 1, new Node[] {result})[0];
+            }
+            // the subtree is less than half full, so it is merged with its neighbour
+            if (child > 0) {
+                return replace(child - 1, 2, merge(children[child - 1], result))[0];
+            }
+            return replace(child, 2, merge(result, children[child + 1]))[0];
+        }
+
+        /**
+         * Joins {@code right} (which is lower than this node) to the right of this subtree.
+         *
+         * @return The joined subtree, or two subtrees if the joined one overflows.
+         */
+        Node[] joinedRight(Node right, int level) {
+            int last = children.length - 1;
+            Node[] joined;
+            if (height == level + 1) {
+                joined = merge(children[last], right);
+            } else {
+                joined = ((Branch) children[last]).joinedRight(right, level);
+            }
+            return replace(last, 1, joined);
+        }
+
+        /**
+         * Joins {@code left} (which is lower than this node) to the left of this subtree.
+         *
+         * @return The joined subtree, or two subtrees if the joined one overflows.
+         */
+        Node[] joinedLeft(Node left, int level) {
+            Node[] joined;
+            if (height == level + 1) {
+                joined = merge(left, children[0]);
+            } else {
+                joined = ((Branch) children[0]).joinedLeft(left, level);
+            }
+            return replace(0, 1, joined);
+        }
+
+        /**
+         * Replaces {@code count} subtrees starting from {@code child} with {@code nodes}.
+         *
+         * @return The copy of this node, or two nodes if the copy overflows.
+         */
+        private Node[] replace(int child, int count, Node[] nodes) {
+            Node[] result = new Node[children.length - count + nodes.length];
+            System.arraycopy(children, 0, result, 0, child);
+            System.arraycopy(nodes, 0, result, child, nodes.length);
+            System.arraycopy(children, child + count, result, child + nodes.length, children.length - child - count);
+            if (result.length <= MAX) {
+                return new Node[] {of(result)};
+            }
+            int half = result.length / 2;
+            return new Node[] {
+                    of(Arrays.copyOfRange(result, 0, half)),
+                    of(Arrays.copyOfRange(result, half, result.length))
+            };
+        }
+    }
+}
@@ -3,9 +3,10 @@ package org.eolang;
 import org.eolang.core.EOObject;
 import org.eolang.core.data.EOData;
 import org.eolang.core.data.EONoData;
-import org.paukov.combinatorics3.Generator;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntUnaryOperator;
 
 /**
  * Represents an array data structure.
@@ -14,11 +15,21 @@ public class EOarray extends EOObject {
 
     /**
      * The underlying data structure behind this array is a Java List.
-     * Effectively, the {@code _array} is an unmodifiable list since both
-     * constructors of this class rely on the {@code Collections.unmodifiableList()} method.
+     * Effectively, the {@code _array} is an unmodifiable list since the public
+     * constructors of this class rely on the {@code Collections.unmodifiableList()} method (or packed lists),
+     * the modified copies of arrays are backed by the persistent {@link EOVector},
+     * and the mapped, reversed and sliced copies are views that share the elements with the original arrays.
      */
     private final List<EOObject> _array;
 
+    /**
+     * The positions of the first occurrences of the data of the elements, in the order of the elements.
+     * The index is built on the first hash lookup, and it is reused afterwards since arrays are immutable,
+     * but only if the elements are values (see {@link #hasValues()}): the data of other elements
+     * (e.g., {@code random}) may differ each time they are dataized.
+     */
+    private volatile Map<Object, Integer> _index;
+
     /**
      * Instantiates an empty array.
      */
@@ -28,11 +39,43 @@ public class EOarray extends EOObject {
 
     /**
      * Instantiates a non-empty array.
+     * If all the {@code objects} are ints (or floats), the array stores their values
+     * in a packed {@link EOLongList} (or {@link EODoubleList}) instead of the objects themselves.
      *
      * @param objects contents of the array being instantiated.
      */
     public EOarray(EOObject... objects) {
-        _array = Collections.unmodifiableList(Arrays.asList(objects));
+        _array = pack(objects);
+    }
+
+    /**
+     * Instantiates an array backed by {@code elements}.
+     *
+     * @param elements contents of the array being instantiated, the list must never be modified.
+     */
+    EOarray(List<EOObject> elements) {
+        _array = elements;
+    }
+
+    /**
+     * Chooses the storage for {@code objects}: the packed one if they are all ints or floats,
+     * or the unmodifiable list of the objects otherwise.
+     */
+    private static List<EOObject> pack(EOObject[] objects) {
+        if (objects.length > 0) {
+            if (objects[0] instanceof EOint) {
+                EOLongList longs = EOLongList.pack(objects);
+                if (longs != null) {
+                    return longs;
+                }
+            } else if (objects[0] instanceof EOfloat) {
+                EODoubleList doubles = EODoubleList.pack(objects);
+                if (doubles != null) {
+                    return doubles;
+                }
+            }
+        }
+        return Collections.unmodifiableList(Arrays.asList(objects));
     }
 
     /**
@@ -44,10 +87,14 @@ public class EOarray extends EOObject {
      */
     @Override
     public EOData _getData() {
-        EOData res = new EONoData();
+        EOData res = EONoData.INSTANCE;
         if (_array.size() == 0) {
             throw new RuntimeException(String.format("Object %s cannot be dataized: it has nor data behind it, neither a decoratee to rely on.", getClass().getTypeName()));
         }
+        if (_array instanceof EOPackedList) {
+            // dataization of numbers has no effects, so only the last one matters
+            return _array.get(_array.size() - 1)._getData();
+        }
         for (EOObject eoObject : _array) res = eoObject._getData();
         return res;
     }
@@ -57,14 +104,12 @@ public class EOarray extends EOObject {
      * <p>
      * This operation does not mutate the original array.
      * Instead, it produces a copy of this array and appends {@code obj} to the end of it.
+     * The copy shares most of its structure with this array, so appending takes O(log n).
      *
      * @return a copy of this array with {@code obj} appended as its last element.
      */
     public EOarray EOappend(EOObject obj) {
-        EOObject[] newArray = new EOObject[_array.size() + 1];
-        System.arraycopy(this._array.toArray(new EOObject[0]), 0, newArray, 0, _array.size());
-        newArray[_array.size()] = obj;
-        return new EOarray(newArray);
+        return new EOarray(EOVector.of(_array).appended(obj));
     }
 
     /**
@@ -78,15 +123,17 @@ public class EOarray extends EOObject {
      */
     public EOarray EOappendAll(EOObject obj) {
         try {
+            if (obj instanceof EOarray) {
+                List<EOObject> other = ((EOarray) obj)._array;
+                return other.isEmpty() ? this : new EOarray(EOVector.of(_array).concat(EOVector.of(other)));
+            }
             int array2Size = obj._getAttribute("EOlength")._getData().toInt().intValue();
             if (array2Size > 0) {
-                EOObject[] newArray;
-                newArray = new EOObject[_array.size() + array2Size];
-                System.arraycopy(this._array.toArray(new EOObject[0]), 0, newArray, 0, _array.size());
-                for (int i = _array.size(); i < newArray.length; ++i) {
-                    newArray[i] = obj._getAttribute("EOget", new EOint(i - _array.size()));
+                EOObject[] newArray = new EOObject[array2Size];
+                for (int i = 0; i < newArray.length; ++i) {
+                    newArray[i] = obj._getAttribute("EOget", EOint.of(i));
                 }
-                return new EOarray(newArray);
+                return new EOarray(EOVector.of(_array).concat(EOVector.of(Arrays.asList(newArray))));
             }
             return this;
         } catch (Exception e) {
@@ -109,7 +156,7 @@ public class EOarray extends EOObject {
         for (EOObject current : _array) {
             evaluatorObject._getAttribute("EOeach", current)._getData();
         }
-        return new EObool(true);
+        return EObool.of(true);
     }
 
     /**
@@ -122,17 +169,229 @@ public class EOarray extends EOObject {
     public EOint EOfind(EOObject from, EOObject validator) {
         int index  = from._getData().toInt().intValue();
         if (index > _array.size() || index < 0) {
-            return new EOint(-1L);
+            return EOint.of(-1L);
         }
         for(int i = index; i < _array.size(); i++){
             try {
                 if(validator._getAttribute("EOvalidator", _array.get(i))._getDecoratedObject()._getData().toBoolean())
-                    return new EOint(i);
+                    return EOint.of(i);
             } catch (Exception e) {
-                return new EOint(-1L);
+                return EOint.of(-1L);
+            }
+        }
+        return EOint.of(-1L);
+    }
+
+    /**
+     * Searches for an element in this array in parallel.
+     * <p>
+     * This attribute works like {@code find}: it evaluates to the position of the first element
+     * (starting from {@code from}) that satisfies {@code validator}, and it evaluates to -1 if there is no such element,
+     * or if the validation of any preceding element fails. The elements are validated by the workers
+     * of the common fork-join pool (see {@link EOParallel}), and once an element is found,
+     * the elements that follow it are not validated anymore.
+     *
+     * @param from      index of the element from which the search will start.
+     * @param validator the object for element validation (just like the one of {@code find}).
+     * @return the position of the first suitable element, or -1.
+     */
+    public EOint EOparFind(EOObject from, EOObject validator) {
+        int index = (int) from._getData().asLong();
+        if (index > _array.size() || index < 0) {
+            return EOint.of(-1L);
+        }
+        // the first event (a suitable element or a failure) so far: the position is doubled, and failures are odd
+        AtomicLong first = new AtomicLong(Long.MAX_VALUE);
+        EOParallel.forEach(_array.size() - index, (start, end) -> {
+            for (int i = index + start; i < index + end && 2L * i < first.get(); i++) {
+                try {
+                    if (validate(validator, i)) {
+                        first.accumulateAndGet(2L * i, Math::min);
+                    }
+                } catch (Exception e) {
+                    first.accumulateAndGet(2L * i + 1, Math::min);
+                }
+            }
+        });
+        long result = first.get();
+        if (result == Long.MAX_VALUE || result % 2 == 1) {
+            return EOint.of(-1L);
+        }
+        return EOint.of(result / 2);
+    }
+
+    /**
+     * Searches for any suitable element in this array in parallel.
+     * <p>
+     * Unlike {@code parFind}, this attribute evaluates to the position of any element
+     * (starting from {@code from}) that satisfies {@code validator}, not necessarily the first one,
+     * so the search stops as soon as any worker finds a suitable element.
+     * It evaluates to -1 if there is no such element, or if the validation of an element fails
+     * before a suitable one is found.
+     *
+     * @param from      index of the element from which the search will start.
+     * @param validator the object for element validation (just like the one of {@code find}).
+     * @return the position of a suitable element, or -1.
+     */
+    public EOint EOparFindAny(EOObject from, EOObject validator) {
+        int index = (int) from._getData().asLong();
+        if (index > _array.size() || index < 0) {
+            return EOint.of(-1L);
+        }
+        AtomicLong found = new AtomicLong(Long.MIN_VALUE);
+        EOParallel.forEach(_array.size() - index, (start, end) -> {
+            for (int i = index + start; i < index + end && found.get() == Long.MIN_VALUE; i++) {
+                try {
+                    if (validate(validator, i)) {
+                        found.compareAndSet(Long.MIN_VALUE, i);
+                    }
+                } catch (Exception e) {
+                    found.compareAndSet(Long.MIN_VALUE, -1L);
+                }
+            }
+        });
+        return EOint.of(found.get() == Long.MIN_VALUE ? -1L : found.get());
+    }
+
+    /**
+     * Validates the element at the position {@code i} with the {@code validator} attribute of {@code validator}.
+     */
+    private boolean validate(EOObject validator, int i) {
+        return validator._getAttribute("EOvalidator", _array.get(i))._getDecoratedObject()._getData().asBoolean();
+    }
+
+    /**
+     * Provides the index of the data of the elements of this array.
+     * The index of values is built on the first call and reused, concurrent first calls may build it more than once,
+     * but they build the same index. The index of other elements is built anew on every call.
+     */
+    private Map<Object, Integer> index() {
+        Map<Object, Integer> index = _index;
+        if (index == null) {
+            index = new LinkedHashMap<>();
+            for (int i = 0; i < _array.size(); i++) {
+                index.putIfAbsent(_array.get(i)._getData().toObject(), i);
+            }
+            if (hasValues()) {
+                _index = index;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Determines if all the elements of this array are values (ints, floats, strings, bools and chars),
+     * which data is the same whenever they are dataized.
+     */
+    private boolean hasValues() {
+        if (_array instanceof EOPackedList) {
+            return true;
+        }
+        for (EOObject element : _array) {
+            Class<?> type = element.getClass();
+            if (type != EOint.class && type != EOfloat.class && type != EOstring.class
+                    && type != EObool.class && type != EOchar.class) {
+                return false;
             }
         }
-        return new EOint(-1L);
+        return true;
+    }
+
+    /**
+     * Finds the position of the first element which data is equal to {@code data}.
+     * The hash index is used if the elements are values, otherwise the elements are dataized one by one
+     * until the element is found.
+     *
+     * @return the position of the element, or -1 if there is no such element.
+     */
+    private int positionOf(Object data) {
+        if (_index != null || hasValues()) {
+            Integer position = index().get(data);
+            return position == null ? -1 : position;
+        }
+        for (int i = 0; i < _array.size(); i++) {
+            if (Objects.equals(_array.get(i)._getData().toObject(), data)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Searches for the first element of this array which data is equal to the data of {@code obj}.
+     * If the elements are values (ints, floats, strings, bools and chars), the search relies on the hash index
+     * of their data, so it takes O(1) once the index is built. Otherwise, the elements are dataized in order,
+     * since their data may differ each time (e.g., the data of {@code random}).
+     *
+     * @param obj the object to search for.
+     * @return the position of the first element equal to {@code obj}, or -1 if there is no such element.
+     */
+    public EOint EOindexOf(EOObject obj) {
+        return EOint.of(positionOf(obj._getData().toObject()));
+    }
+
+    /**
+     * Determines if this array contains an element which data is equal to the data of {@code obj}.
+     * The search works the same way as the one of {@code indexOf}.
+     *
+     * @param obj the object to search for.
+     * @return {@code true} if such an element is present, otherwise {@code false}.
+     */
+    public EObool EOcontains(EOObject obj) {
+        return EObool.of(positionOf(obj._getData().toObject()) >= 0);
+    }
+
+    /**
+     * Retrieves the elements of this array without duplicates
+     * (i.e., the first of the elements with equal data, in the order of the elements).
+     * The elements which are not values are dataized anew on every call.
+     *
+     * @return an {@code array} of the distinct elements.
+     */
+    public EOarray EOdistinct() {
+        Collection<Integer> positions = index().values();
+        if (positions.size() == _array.size()) {
+            return this;
+        }
+        EOObject[] newArray = new EOObject[positions.size()];
+        int i = 0;
+        for (int position : positions) {
+            newArray[i++] = _array.get(position);
+        }
+        return new EOarray(newArray);
+    }
+
+    /**
+     * Groups the elements of this array by the keys provided by {@code keyObject}.
+     * The elements are considered to have the same key if the data of their keys are equal.
+     * <p>
+     * Example:
+     * array([1, 2, 3, 4, 5]).groupBy (x mod 2) -> array([tuple(1, array([1, 3, 5])), tuple(0, array([2, 4]))])
+     *
+     * @param keyObject an EO object that must have a {@code groupBy} attribute which must have a free attribute
+     *                  that receives the current element being grouped.
+     *                  The name of the free attribute does not matter and may be chosen freely.
+     *                  The {@code groupBy} attribute must bind the key of the element to its {@code @} attribute.
+     * @return an {@code array} of {@code tuple} objects, one per key in the order of their first occurrences,
+     * where {@code fst} is the key (of the first element of the group),
+     * and {@code snd} is the {@code array} of the elements with the key in their original order.
+     */
+    public EOarray EOgroupBy(EOObject keyObject) {
+        Map<Object, EOObject> keys = new LinkedHashMap<>();
+        Map<Object, List<EOObject>> groups = new HashMap<>();
+        for (EOObject element : _array) {
+            EOObject key = keyObject._getAttribute("EOgroupBy", element)._getDecoratedObject();
+            Object data = key._getData().toObject();
+            keys.putIfAbsent(data, key);
+            groups.computeIfAbsent(data, unused -> new ArrayList<>()).add(element);
+        }
+        EOObject[] newArray = new EOObject[keys.size()];
+        int i = 0;
+        for (Map.Entry<Object, EOObject> key : keys.entrySet()) {
+            List<EOObject> group = groups.get(key.getKey());
+            newArray[i++] = new EOtuple(key.getValue(), new EOarray(group.toArray(new EOObject[0])));
+        }
+        return new EOarray(newArray);
     }
 
     /**
@@ -176,13 +435,7 @@ public class EOarray extends EOObject {
                     )
             );
         }
-        EOObject[] newArray = new EOObject[_array.size() + 1];
-        if(index>0)
-            System.arraycopy(this._array.toArray(new EOObject[0]), 0, newArray, 0, index);
-        newArray[index] = obj;
-        if(index<_array.size())
-            System.arraycopy(this._array.toArray(new EOObject[0]), index, newArray, index+1, _array.size() - index);
-        return new EOarray(newArray);
+        return new EOarray(EOVector.of(_array).inserted(index, obj));
     }
 
     /**
@@ -191,7 +444,7 @@ public class EOarray extends EOObject {
      * @return {@code true} if this array is empty, otherwise {@code false}.
      */
     public EObool EOisEmpty() {
-        return new EObool(_array.isEmpty());
+        return EObool.of(_array.isEmpty());
     }
 
     /**
@@ -200,7 +453,7 @@ public class EOarray extends EOObject {
      * @return an {@code int} representing the length of this array.
      */
     public EOint EOlength() {
-        return new EOint(_array.size());
+        return EOint.of(_array.size());
     }
 
     /**
@@ -208,6 +461,8 @@ public class EOarray extends EOObject {
      * <p>
      * This operation does not mutate the original array.
      * Instead, it produces a copy of this array where each element is transformed with {@code mapperObject}.
+     * The copy is lazy: each element is transformed only when it is accessed for the first time,
+     * so the transformations must not rely on being performed in the order of the elements.
      *
      * @param mapperObject an EO object that must have a {@code map} attribute which must have a free attribute
      *                     that receives the current element being transformed.
@@ -217,12 +472,10 @@ public class EOarray extends EOObject {
      * @return an {@code array} object containing mapped elements.
      */
     public EOarray EOmap(EOObject mapperObject) {
-        int length = _array.size();
-        EOObject[] mappedArray = new EOObject[length];
-        for (int i = 0; i < length; i++) {
-            mappedArray[i] = mapperObject._getAttribute("EOmap", _array.get(i))._getDecoratedObject();
-        }
-        return new EOarray(mappedArray);
+        return new EOarray(new EOMappedList(
+                _array,
+                (element, index) -> mapperObject._getAttribute("EOmap", element)._getDecoratedObject()
+        ));
     }
 
     /**
@@ -231,6 +484,8 @@ public class EOarray extends EOObject {
      * <p>
      * This operation does not mutate the original array.
      * Instead, it produces a copy of this array where each element is transformed with {@code mapperObject}.
+     * The copy is lazy: each element is transformed only when it is accessed for the first time,
+     * so the transformations must not rely on being performed in the order of the elements.
      *
      * @param mapperObject an EO object that must have a {@code mapi} attribute which must have two free attributes:
      *                     1. The first free attribute receives the current element being transformed.
@@ -241,11 +496,52 @@ public class EOarray extends EOObject {
      * @return an {@code array} object containing mapped elements.
      */
     public EOarray EOmapi(EOObject mapperObject) {
-        int length = _array.size();
-        EOObject[] mappedArray = new EOObject[length];
-        for (int i = 0; i < length; i++) {
-            mappedArray[i] = mapperObject._getAttribute("EOmapi", _array.get(i), new EOint(i))._getDecoratedObject();
-        }
+        return new EOarray(new EOMappedList(
+                _array,
+                (element, index) -> mapperObject._getAttribute("EOmapi", element, EOint.of(index))._getDecoratedObject()
+        ));
+    }
+
+    /**
+     * Transforms this array in accordance with {@code mapperObject} in parallel.
+     * <p>
+     * This attribute works like {@code map}, but the elements are transformed by the workers
+     * of the common fork-join pool (see {@link EOParallel} for how the array is split).
+     * The order of the elements of the resulting array is the same as the one of {@code map}.
+     * The transformations are performed concurrently, so they must not depend on each other.
+     *
+     * @param mapperObject an EO object that must have a {@code map} attribute (just like the one of {@code map}).
+     * @return an {@code array} object containing mapped elements.
+     */
+    public EOarray EOparMap(EOObject mapperObject) {
+        EOObject[] mappedArray = new EOObject[_array.size()];
+        EOParallel.forEach(mappedArray.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                mappedArray[i] = mapperObject._getAttribute("EOmap", _array.get(i))._getDecoratedObject();
+            }
+        });
+        return new EOarray(mappedArray);
+    }
+
+    /**
+     * Transforms this array in accordance with {@code mapperObject} in parallel.
+     * This variant of parallel mapping considers indices while transforming elements.
+     * <p>
+     * This attribute works like {@code mapi}, but the elements are transformed by the workers
+     * of the common fork-join pool (see {@link EOParallel} for how the array is split).
+     * The order of the elements of the resulting array is the same as the one of {@code mapi}.
+     * The transformations are performed concurrently, so they must not depend on each other.
+     *
+     * @param mapperObject an EO object that must have a {@code mapi} attribute (just like the one of {@code mapi}).
+     * @return an {@code array} object containing mapped elements.
+     */
+    public EOarray EOparMapi(EOObject mapperObject) {
+        EOObject[] mappedArray = new EOObject[_array.size()];
+        EOParallel.forEach(mappedArray.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                mappedArray[i] = mapperObject._getAttribute("EOmapi", _array.get(i), EOint.of(i))._getDecoratedObject();
+            }
+        });
         return new EOarray(mappedArray);
     }
 
@@ -274,11 +570,11 @@ public class EOarray extends EOObject {
     public EOint EOmin(EOObject comparator) {
         // empty arrays have no minimums
         if (_array.isEmpty()) {
-            return new EOint(-1);
+            return EOint.of(-1);
         }
         // one-element arrays have their minimums at the 0th position
         if (_array.size() == 1) {
-            return new EOint(0);
+            return EOint.of(0);
         }
         // consider the first element as the minimum
         int currentMinIndex = 0;
@@ -291,9 +587,9 @@ public class EOarray extends EOObject {
                             (
                               "EOcomparator",
                                     currentMin,
-                                    new EOint(currentMinIndex),
+                                    EOint.of(currentMinIndex),
                                     _array.get(i),
-                                    new EOint(i)
+                                    EOint.of(i)
                             )._getDecoratedObject();
             long comparisonResult = comparison._getData().toInt();
             if (comparisonResult != 0) {
@@ -306,11 +602,249 @@ public class EOarray extends EOObject {
         }
 
         if (allEqual) {
-            return new EOint(-1);
+            return EOint.of(-1);
         }
         else {
-            return new EOint(currentMinIndex);
+            return EOint.of(currentMinIndex);
+        }
+    }
+
+    /**
+     * Finds the position of the first minimum number in this array of ints and floats.
+     * The numbers are compared by their values, so no comparator is needed.
+     *
+     * This implementation assumes that (just like the one with the comparator):
+     *   1. Empty arrays have no minimum element (thus, this object evaluates to -1).
+     *   2. One-element arrays have their minimums at the 0th position, meaning the first element is the minimum.
+     *
+     * @return the position of the first minimum number or -1 if all numbers are equal.
+     */
+    public EOint EOmin() {
+        if (_array.isEmpty()) {
+            return EOint.of(-1);
+        }
+        if (_array.size() == 1) {
+            return EOint.of(0);
+        }
+        int currentMinIndex = 0;
+        boolean allEqual = true;
+        if (_array instanceof EOLongList) {
+            EOLongList longs = (EOLongList) _array;
+            for (int i = 1; i < longs.size(); i++) {
+                int comparisonResult = Long.compare(longs.value(currentMinIndex), longs.value(i));
+                allEqual &= comparisonResult == 0;
+                if (comparisonResult > 0) {
+                    currentMinIndex = i;
+                }
+            }
+        } else if (_array instanceof EODoubleList) {
+            EODoubleList doubles = (EODoubleList) _array;
+            for (int i = 1; i < doubles.size(); i++) {
+                int comparisonResult = Double.compare(doubles.value(currentMinIndex), doubles.value(i));
+                allEqual &= comparisonResult == 0;
+                if (comparisonResult > 0) {
+                    currentMinIndex = i;
+                }
+            }
+        } else {
+            EOData currentMin = _array.get(currentMinIndex)._getData();
+            for (int i = 1; i < _array.size(); i++) {
+                EOData current = _array.get(i)._getData();
+                int comparisonResult = compareNumbers(currentMin, current);
+                allEqual &= comparisonResult == 0;
+                if (comparisonResult > 0) {
+                    currentMinIndex = i;
+                    currentMin = current;
+                }
+            }
+        }
+        return EOint.of(allEqual ? -1 : currentMinIndex);
+    }
+
+    /**
+     * Compares two numbers, ints are compared exactly, and floats are compared with ints as floats.
+     */
+    private static int compareNumbers(EOData left, EOData right) {
+        if (left.isInteger() && right.isInteger()) {
+            return Long.compare(left.asLong(), right.asLong());
         }
+        return Double.compare(
+                left.isInteger() ? left.asLong() : left.asDouble(),
+                right.isInteger() ? right.asLong() : right.asDouble()
+        );
+    }
+
+    /**
+     * Compares the data of two elements: numbers (see {@link #compareNumbers}) are compared with numbers,
+     * and strings are compared with strings lexicographically.
+     *
+     * @throws RuntimeException Thrown when the data are neither two numbers, nor two strings.
+     */
+    private static int compareData(EOData left, EOData right) {
+        boolean leftNumber = left.isInteger() || left.isFloat();
+        boolean rightNumber = right.isInteger() || right.isFloat();
+        if (leftNumber && rightNumber) {
+            return compareNumbers(left, right);
+        }
+        if (!leftNumber && !rightNumber && left.toObject() instanceof String && right.toObject() instanceof String) {
+            return left.toString().compareTo(right.toString());
+        }
+        throw new RuntimeException(
+                String.format(
+                        "Can't compare %s with %s without a comparator: only numbers and strings can be compared.",
+                        left,
+                        right
+                )
+        );
+    }
+
+    /**
+     * Sorts this array in accordance with the {@code comparator} object.
+     * The sorting is stable: equal elements keep their order.
+     * <p>
+     * This operation does not mutate the original array.
+     * Instead, it produces a sorted copy of this array.
+     *
+     * @param comparator an EO object that must have a {@code comparator} attribute (just like the one of {@code min}).
+     *                   The indices passed to the comparator are the positions of the elements in this array.
+     * @return a sorted copy of this array.
+     */
+    public EOarray EOsort(EOObject comparator) {
+        Integer[] positions = new Integer[_array.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = i;
+        }
+        Arrays.sort(positions, (a, b) -> Long.signum(
+                comparator._getAttribute(
+                        "EOcomparator",
+                        _array.get(a),
+                        EOint.of(a),
+                        _array.get(b),
+                        EOint.of(b)
+                )._getDecoratedObject()._getData().asLong()
+        ));
+        EOObject[] newArray = new EOObject[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            newArray[i] = _array.get(positions[i]);
+        }
+        return new EOarray(newArray);
+    }
+
+    /**
+     * Sorts this array of numbers or strings in the ascending order of their data, so no comparator is needed.
+     * Ints and floats are compared by their values, and strings are compared lexicographically.
+     * The sorting is stable: equal elements keep their order.
+     * <p>
+     * This operation does not mutate the original array.
+     * Instead, it produces a sorted copy of this array.
+     *
+     * @return a sorted copy of this array.
+     * @throws RuntimeException Thrown when the elements are neither numbers, nor strings.
+     */
+    public EOarray EOsort() {
+        if (_array instanceof EOPackedList) {
+            return new EOarray(((EOPackedList) _array).sorted());
+        }
+        EOData[] data = new EOData[_array.size()];
+        Integer[] positions = new Integer[data.length];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = _array.get(i)._getData();
+            positions[i] = i;
+        }
+        Arrays.sort(positions, (a, b) -> compareData(data[a], data[b]));
+        EOObject[] newArray = new EOObject[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            newArray[i] = _array.get(positions[i]);
+        }
+        return new EOarray(newArray);
+    }
+
+    /**
+     * Searches for {@code key} in this array sorted in the ascending order of the data of its elements
+     * (e.g., by {@code sort}), so no comparator is needed.
+     * Ints and floats are compared by their values, and strings are compared lexicographically.
+     *
+     * @param key the number or the string to search for.
+     * @return the position of the first element equal to {@code key} if it is present,
+     * otherwise (-(insertion point) - 1), where the insertion point is the position of the first element greater than {@code key}
+     * (or the length of this array).
+     */
+    public EOint EObinarySearch(EOObject key) {
+        EOData keyData = key._getData();
+        // the values of packed numbers and the strings are read directly, without the element objects and their data
+        if (_array instanceof EOLongList && keyData.isInteger()) {
+            EOLongList longs = (EOLongList) _array;
+            long value = keyData.asLong();
+            return binarySearch(position -> Long.compare(longs.value(position), value));
+        }
+        if (keyData.isInteger() || keyData.isFloat()) {
+            double value = keyData.isInteger() ? keyData.asLong() : keyData.asDouble();
+            if (_array instanceof EOLongList) {
+                EOLongList longs = (EOLongList) _array;
+                return binarySearch(position -> Double.compare(longs.value(position), value));
+            }
+            if (_array instanceof EODoubleList) {
+                EODoubleList doubles = (EODoubleList) _array;
+                return binarySearch(position -> Double.compare(doubles.value(position), value));
+            }
+        } else if (keyData.toObject() instanceof String) {
+            String value = keyData.toString();
+            return binarySearch(position -> {
+                EOObject element = _array.get(position);
+                if (element.getClass() == EOstring.class) {
+                    return ((EOstring) element).value().compareTo(value);
+                }
+                return compareData(element._getData(), keyData);
+            });
+        }
+        return binarySearch(position -> compareData(_array.get(position)._getData(), keyData));
+    }
+
+    /**
+     * Searches for {@code key} in this array sorted in accordance with the {@code comparator} object (e.g., by {@code sort}).
+     *
+     * @param key        the object to search for.
+     * @param comparator an EO object that must have a {@code comparator} attribute (just like the one of {@code min}).
+     *                   The elements are always passed to the comparator as A, and {@code key} is always passed as B.
+     *                   The index of {@code key} passed to the comparator is -1.
+     * @return the position of the first element equal to {@code key} if it is present,
+     * otherwise (-(insertion point) - 1), where the insertion point is the position of the first element greater than {@code key}
+     * (or the length of this array).
+     */
+    public EOint EObinarySearch(EOObject key, EOObject comparator) {
+        return binarySearch(position -> Long.signum(
+                comparator._getAttribute(
+                        "EOcomparator",
+                        _array.get(position),
+                        EOint.of(position),
+                        key,
+                        EOint.of(-1)
+                )._getDecoratedObject()._getData().asLong()
+        ));
+    }
+
+    /**
+     * Searches for the first element which is not less than the key.
+     *
+     * @param comparison compares the element at the given position with the key.
+     * @return the position of the element if it is equal to the key, otherwise (-(insertion point) - 1).
+     */
+    private EOint binarySearch(IntUnaryOperator comparison) {
+        int low = 0;
+        int high = _array.size();
+        boolean found = false;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int result = comparison.applyAsInt(middle);
+            if (result < 0) {
+                low = middle + 1;
+            } else {
+                // the last element which is not less than the key is the first one of them
+                found = result == 0;
+                high = middle;
+            }
+        }
+        return EOint.of(found ? low : -low - 1);
     }
 
     /**
@@ -325,16 +859,41 @@ public class EOarray extends EOObject {
      * Example #2:
      * array([1, 2, 2]).pairs -> array([tuple(1, 2), tuple(1, 2), tuple(2, 2)])
      *
+     * The resulting array is lazy: each pair is computed from its position when it is accessed,
+     * so the pairs are never stored all at once.
+     * An array can hold no more than {@code Integer.MAX_VALUE} elements, so only the arrays of 65536 elements at most
+     * can be paired this way. The pairs of larger arrays can be evaluated with {@code eachPair},
+     * which has no limit on the number of the pairs.
+     *
      * @return an {@code array} of {@code tuple} objects with pairs of the elements of this array.
+     * @throws IllegalArgumentException Thrown when this array has more than 65536 elements.
      */
     public EOarray EOpairs() {
-        return new EOarray(
-                Generator.combination(this._array.toArray(new EOObject[0]))
-                        .simple(2)
-                        .stream()
-                        .map(pair -> new EOtuple(pair.get(0), pair.get(1)))
-                        .toArray(EOObject[]::new)
-        );
+        return new EOarray(new EOPairsList(_array));
+    }
+
+    /**
+     * Evaluates {@code evaluatorObject} against each pair of the elements of this array (in the order of {@code pairs}).
+     * Results of evaluations are not considered. This method always returns {@code true}.
+     * Unlike {@code pairs.each}, this attribute does not produce the {@code tuple} objects for the pairs,
+     * and it is not limited by the maximum length of arrays, so it evaluates all the pairs of arrays of any length.
+     *
+     * @param evaluatorObject an EO object that must have an {@code eachPair} attribute which must have two free attributes:
+     *                        1. The first free attribute receives the first element of the current pair.
+     *                        2. The second free attribute receives the second element of the current pair.
+     *                        The order of the free attributes matters, and their names do not.
+     *                        The {@code eachPair} attribute must bind an expression to be evaluated to {@code @}.
+     * @return {@code true}.
+     */
+    public EObool EOeachPair(EOObject evaluatorObject) {
+        int length = _array.size();
+        for (int i = 0; i < length; i++) {
+            EOObject first = _array.get(i);
+            for (int j = i + 1; j < length; j++) {
+                evaluatorObject._getAttribute("EOeachPair", first, _array.get(j))._getData();
+            }
+        }
+        return EObool.TRUE;
     }
 
     /**
@@ -357,6 +916,38 @@ public class EOarray extends EOObject {
         return out;
     }
 
+    /**
+     * Performs the operation of reduction of this array in parallel.
+     * <p>
+     * The array is split into parts (see {@link EOParallel}), each part is reduced with {@code reducerObject}
+     * starting from {@code accumulator} (just like {@code reduce} does), and the partial accumulators
+     * of adjacent parts are merged with {@code combinerObject}. Thus, {@code accumulator} must be
+     * the neutral element of the combination (e.g., 0 for sums), and the combination must be associative.
+     * For any way of splitting the array, the result is the same as the one of {@code reduce} then.
+     *
+     * @param accumulator    an initial value of the accumulator of each part.
+     * @param reducerObject  an EO object that must have a {@code reduce} attribute (just like the one of {@code reduce}).
+     * @param combinerObject an EO object that must have a {@code combine} attribute which must have two free attributes:
+     *                       1. The first free attribute receives the accumulator of the left part.
+     *                       2. The second free attribute receives the accumulator of the right part.
+     *                       The order of the free attributes matters, and their names do not.
+     *                       The {@code combine} attribute must bind a combination technique (function) to {@code @}.
+     * @return the result of reduction.
+     */
+    public EOObject EOparReduce(EOObject accumulator, EOObject reducerObject, EOObject combinerObject) {
+        return EOParallel.reduce(
+                _array.size(),
+                (from, to) -> {
+                    EOObject out = accumulator;
+                    for (int i = from; i < to; i++) {
+                        out = reducerObject._getAttribute("EOreduce", out, _array.get(i))._getDecoratedObject();
+                    }
+                    return out;
+                },
+                (left, right) -> combinerObject._getAttribute("EOcombine", left, right)._getDecoratedObject()
+        );
+    }
+
     /**
      * Performs the operation of reduction of this array
      * (i.e., this method transforms this array into a single value in accordance with {@code reducerObject}).
@@ -375,7 +966,7 @@ public class EOarray extends EOObject {
         EOObject out = accumulator;
         int length = _array.size();
         for (int i = 0; i < length; i++) {
-            out = reducerObject._getAttribute("EOreducei", out, _array.get(i), new EOint(i))._getDecoratedObject();
+            out = reducerObject._getAttribute("EOreducei", out, _array.get(i), EOint.of(i))._getDecoratedObject();
         }
         return out;
     }
@@ -401,12 +992,7 @@ public class EOarray extends EOObject {
             );
         }
         // copy the array removing the specified element
-        EOObject[] newArray = new EOObject[_array.size()-1];
-        if(position>0)
-            System.arraycopy(this._array.toArray(new EOObject[0]), 0, newArray, 0, position);
-        if(position<_array.size()-1)
-            System.arraycopy(this._array.toArray(new EOObject[0]), position+1, newArray, position, _array.size() - position - 1);
-        return new EOarray(newArray);
+        return new EOarray(EOVector.of(_array).removed(position));
     }
 
     /**
@@ -432,23 +1018,51 @@ public class EOarray extends EOObject {
             );
         }
         // copy the array replacing the specified element with the new value
-        EOObject[] newArray = new EOObject[_array.size()];
-        System.arraycopy(this._array.toArray(new EOObject[0]), 0, newArray, 0, _array.size());
-        newArray[position] = newValue;
-        return new EOarray(newArray);
+        return new EOarray(EOVector.of(_array).replaced(position, newValue));
     }
 
     /**
      * Reverses elements of this array.
      * Example: [1, 2, 3, 4] -> [4, 3, 2, 1].
+     * The reversed array is a view that shares the elements with this array, so reversing takes O(1).
+     * Arrays of ints and floats are reversed into the packed lists of ints and floats, so they keep the fast paths.
      * @return a reversed copy of this array.
      */
     public EOarray EOreverse() {
-        EOObject[] newArray = new EOObject[_array.size()];
-        for (int i = _array.size()-1; i >= 0; i--) {
-            newArray[_array.size()-1-i] = _array.get(i);
+        if (_array instanceof EOPackedList) {
+            return new EOarray(((EOPackedList) _array).reversed());
         }
-        return new EOarray(newArray);
+        return new EOarray(EOReversedList.of(_array));
+    }
+
+    /**
+     * Retrieves the part of this array from the position {@code start} (inclusive) to the position {@code end} (exclusive).
+     * Example: [1, 2, 3, 4].slice(1, 3) -> [2, 3].
+     * The slice is a view that shares the elements with this array, so slicing takes O(1).
+     * Arrays of ints and floats are sliced into the packed lists of ints and floats, so they keep the fast paths.
+     * @param start the position of the first element of the slice.
+     * @param end the position right after the last element of the slice.
+     * @return a copy of the part of this array.
+     * @throws IndexOutOfBoundsException if the positions are out of bounds of this array
+     *                                   (i.e., not {@code 0 <= start <= end <= array.length}).
+     */
+    public EOarray EOslice(EOObject start, EOObject end) {
+        int from = (int) start._getData().asLong();
+        int to = (int) end._getData().asLong();
+        if (from < 0 || from > to || to > _array.size()) {
+            throw new IndexOutOfBoundsException(
+                    String.format(
+                            "Cannot slice the following array: %s from the position %d to the position %d. The positions are out of bounds.",
+                            this,
+                            from,
+                            to
+                    )
+            );
+        }
+        if (_array instanceof EOPackedList) {
+            return new EOarray(((EOPackedList) _array).slice(from, to));
+        }
+        return new EOarray(EOSliceList.of(_array, from, to));
     }
 
     /**
@@ -1,6 +1,7 @@
 package org.eolang;
 
 import org.eolang.core.EOObject;
+import org.eolang.core.data.EOBooleanData;
 import org.eolang.core.data.EOData;
 
 import java.util.Objects;
@@ -11,15 +12,34 @@ import java.util.Objects;
  */
 public class EObool extends EOObject {
 
-    private final Boolean baseBool;
+    /**
+     * The canonical true object.
+     */
+    public static final EObool TRUE = new EObool(true);
+
+    /**
+     * The canonical false object.
+     */
+    public static final EObool FALSE = new EObool(false);
+
+    private final boolean baseBool;
 
     public EObool(Boolean baseBool) {
         this.baseBool = baseBool;
     }
 
+    /***
+     * Provides the canonical bool object, so no object is allocated
+     * @param value the truth value of the object
+     * @return Either {@link #TRUE} or {@link #FALSE}
+     */
+    public static EObool of(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
     @Override
     public EOData _getData() {
-        return new EOData(baseBool);
+        return EOBooleanData.of(baseBool);
     }
 
     /***
@@ -44,7 +64,7 @@ public class EObool extends EOObject {
      * @return An object representing the inverse value of this bool
      */
     public EObool EOnot() {
-        return new EObool(!this.baseBool);
+        return EObool.of(!this.baseBool);
     }
 
     /***
@@ -53,14 +73,14 @@ public class EObool extends EOObject {
      * @return An object representing the logical AND of this baseBool object and all the objects passed to this method
      */
     public EObool EOand(EOObject... eoObjects) {
-        Boolean eoBool = this.baseBool;
+        boolean eoBool = this.baseBool;
         for (EOObject eoObject : eoObjects) {
             if (!eoBool) {
                 break;
             }
-            eoBool &= eoObject._getData().toBoolean();
+            eoBool &= eoObject._getData().asBoolean();
         }
-        return new EObool(eoBool);
+        return EObool.of(eoBool);
     }
 
     /***
@@ -69,14 +89,14 @@ public class EObool extends EOObject {
      * @return An object representing the logical OR of this baseBool object and all the objects passed to this method
      */
     public EObool EOor(EOObject... eoObjects) {
-        Boolean eoBool = this.baseBool;
+        boolean eoBool = this.baseBool;
         for (EOObject eoObject : eoObjects) {
             if (eoBool) {
                 break;
             }
-            eoBool |= eoObject._getData().toBoolean();
+            eoBool |= eoObject._getData().asBoolean();
         }
-        return new EObool(eoBool);
+        return EObool.of(eoBool);
     }
 
     /**
@@ -98,7 +118,7 @@ public class EObool extends EOObject {
         if (this == o) return true;
         if (o == null || !(o instanceof EOObject)) return false;
         EOObject eoObject = (EOObject) o;
-        return eoObject._getData().toBoolean().equals(baseBool);
+        return eoObject._getData().asBoolean() == baseBool;
     }
 
     @Override
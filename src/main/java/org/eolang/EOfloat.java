@@ -2,6 +2,7 @@ package org.eolang;
 
 import org.eolang.core.EOObject;
 import org.eolang.core.data.EOData;
+import org.eolang.core.data.EODoubleData;
 
 /***
  * Represents a float number
@@ -15,9 +16,16 @@ public class EOfloat extends EOObject {
         this.value = value;
     }
 
+    /**
+     * Provides the value of this float to the runtime without dataization.
+     */
+    double value() {
+        return value;
+    }
+
     @Override
     public EOData _getData() {
-        return new EOData(value);
+        return new EODoubleData(value);
     }
 
     /***
@@ -26,7 +34,7 @@ public class EOfloat extends EOObject {
      * @return An object representing the sum of this float and the {@code rightAddend} free attribute
      */
     public EOfloat EOadd(EOObject rightAddend) {
-        return new EOfloat(this.value + rightAddend._getData().toFloat());
+        return new EOfloat(this.value + rightAddend._getData().asDouble());
     }
 
     /***
@@ -35,7 +43,7 @@ public class EOfloat extends EOObject {
      * @return An object representing the difference between of this float and the {@code subtrahend} free attribute
      */
     public EOfloat EOsub(EOObject subtrahend) {
-        return new EOfloat(this.value - subtrahend._getData().toFloat());
+        return new EOfloat(this.value - subtrahend._getData().asDouble());
     }
 
     /***
@@ -44,10 +52,10 @@ public class EOfloat extends EOObject {
      * @return An object representing the quotient of this float divided by the {@code divisor} free attribute
      */
     public EOfloat EOdiv(EOObject divisor) {
-        if (divisor._getData().toFloat() == 0.0) {
+        if (divisor._getData().asDouble() == 0.0) {
             throw new ArithmeticException("Division by zero not possible");
         }
-        return new EOfloat(this.value / divisor._getData().toFloat());
+        return new EOfloat(this.value / divisor._getData().asDouble());
     }
 
     /***
@@ -56,7 +64,7 @@ public class EOfloat extends EOObject {
      * @return An object representing the product of this float and the {@code multiplier} free attribute
      */
     public EOfloat EOmul(EOObject multiplier) {
-        return new EOfloat(this.value * multiplier._getData().toFloat());
+        return new EOfloat(this.value * multiplier._getData().asDouble());
     }
 
     /***
@@ -65,7 +73,7 @@ public class EOfloat extends EOObject {
      * @return A boolean representing the truth value of the comparison of this float with the {@code rightFloat} free attribute
      */
     public EObool EOeq(EOObject rightFloat) {
-        return new EObool(this.value == rightFloat._getData().toFloat());
+        return EObool.of(this.value == rightFloat._getData().asDouble());
     }
 
     /***
@@ -74,7 +82,7 @@ public class EOfloat extends EOObject {
      * @return A boolean representing the truth value of the comparison of this float with the {@code rightFloat} free attribute
      */
     public EObool EOneq(EOObject rightFloat) {
-        return new EObool(this.value != rightFloat._getData().toFloat());
+        return EObool.of(this.value != rightFloat._getData().asDouble());
     }
 
     /***
@@ -83,7 +91,7 @@ public class EOfloat extends EOObject {
      * @return A boolean representing the truth value of the comparison of this float with the {@code rightFloat} free attribute
      */
     public EObool EOless(EOObject rightFloat) {
-        return new EObool(this.value < rightFloat._getData().toFloat());
+        return EObool.of(this.value < rightFloat._getData().asDouble());
     }
 
     /***
@@ -92,7 +100,7 @@ public class EOfloat extends EOObject {
      * @return A boolean representing the truth value of the comparison of this float with the {@code rightFloat} free attribute
      */
     public EObool EOleq(EOObject rightFloat) {
-        return new EObool(this.value <= rightFloat._getData().toFloat());
+        return EObool.of(this.value <= rightFloat._getData().asDouble());
     }
 
     /***
@@ -101,7 +109,7 @@ public class EOfloat extends EOObject {
      * @return A boolean representing the truth value of the comparison of this float with the {@code rightFloat} free attribute
      */
     public EObool EOgreater(EOObject rightFloat) {
-        return new EObool(this.value > rightFloat._getData().toFloat());
+        return EObool.of(this.value > rightFloat._getData().asDouble());
     }
 
     /***
@@ -110,7 +118,7 @@ public class EOfloat extends EOObject {
      * @return A boolean representing the truth value of the comparison of this float with the {@code rightFloat} free attribute
      */
     public EObool EOgeq(EOObject rightFloat) {
-        return new EObool(this.value >= rightFloat._getData().toFloat());
+        return EObool.of(this.value >= rightFloat._getData().asDouble());
     }
 
     /***
@@ -143,7 +151,7 @@ public class EOfloat extends EOObject {
      * @return An object representing the  {@code exponent} free attribute)th power of this float
      */
     public EOfloat EOpow(EOObject exponent) {
-        return new EOfloat(Math.pow(this.value, exponent._getData().toFloat()));
+        return new EOfloat(Math.pow(this.value, exponent._getData().asDouble()));
     }
 
 }
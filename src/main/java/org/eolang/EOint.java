@@ -2,6 +2,7 @@ package org.eolang;
 
 import org.eolang.core.EOObject;
 import org.eolang.core.data.EOData;
+import org.eolang.core.data.EOLongData;
 
 import java.util.Objects;
 
@@ -13,13 +14,45 @@ public class EOint extends EOObject {
 
     private final long value;
 
+    /**
+     * The data behind this int, created on the first dataization.
+     * The data is immutable, so racing threads may only create it more than once.
+     */
+    private EOLongData data;
+
     public EOint(long value) {
         this.value = value;
     }
 
+    /***
+     * Provides an int object, reusing the canonical instances of small values
+     * (the range of the cached values is set by the {@code eo.int.cache.low}
+     * and {@code eo.int.cache.high} system properties, -128..1024 by default)
+     * @param value the value of the int
+     * @return An object representing the {@code value}
+     */
+    public static EOint of(long value) {
+        if (value >= Cache.LOW && value <= Cache.HIGH) {
+            return Cache.VALUES[(int) (value - Cache.LOW)];
+        }
+        return new EOint(value);
+    }
+
+    /**
+     * Provides the value of this int to the runtime without dataization.
+     */
+    long value() {
+        return value;
+    }
+
     @Override
     public EOData _getData() {
-        return new EOData(value);
+        EOLongData result = data;
+        if (result == null) {
+            result = new EOLongData(value);
+            data = result;
+        }
+        return result;
     }
 
     /***
@@ -28,7 +61,7 @@ public class EOint extends EOObject {
      * @return An object representing a sum of this integer and the {@code rightAddend} free attribute
      */
     public EOint EOadd(EOObject rightAddend) {
-        return new EOint(this.value + rightAddend._getData().toInt());
+        return EOint.of(this.value + rightAddend._getData().asLong());
     }
 
     /***
@@ -37,18 +70,18 @@ public class EOint extends EOObject {
      * @return An object representing a difference of this integer and the {@code subtrahend} free attribute
      */
     public EOint EOsub(EOObject subtrahend) {
-        return new EOint(this.value - subtrahend._getData().toInt());
+        return EOint.of(this.value - subtrahend._getData().asLong());
     }
 
     public EOint EOdiv(EOObject divisor) {
-        if (divisor._getData().toInt() == 0) {
+        if (divisor._getData().asLong() == 0) {
             throw new ArithmeticException("Division by zero not possible");
         }
-        return new EOint(Math.floorDiv(this.value, divisor._getData().toInt()));
+        return EOint.of(Math.floorDiv(this.value, divisor._getData().asLong()));
     }
 
     public EOint EOmul(EOObject rightFactor) {
-        return new EOint(this.value * rightFactor._getData().toInt());
+        return EOint.of(this.value * rightFactor._getData().asLong());
     }
 
     /***
@@ -58,9 +91,9 @@ public class EOint extends EOObject {
      */
     public EObool EOeq(EOObject rightInt) {
         try{
-            return new EObool(this.value == rightInt._getData().toInt());
+            return EObool.of(this.value == rightInt._getData().asLong());
         }catch (Exception e){
-            return new EObool(false);
+            return EObool.of(false);
         }
 
     }
@@ -71,7 +104,7 @@ public class EOint extends EOObject {
      * @return A boolean representing the truth value of the comparison of this int with the {@code rightInt} free attribute
      */
     public EObool EOneq(EOObject rightInt) {
-        return new EObool(this.value != rightInt._getData().toInt());
+        return EObool.of(this.value != rightInt._getData().asLong());
     }
 
     /***
@@ -80,7 +113,7 @@ public class EOint extends EOObject {
      * @return A boolean representing the truth value of the comparison of this int with the {@code rightInt} free attribute
      */
     public EObool EOless(EOObject rightInt) {
-        return new EObool(this.value < rightInt._getData().toInt());
+        return EObool.of(this.value < rightInt._getData().asLong());
     }
 
     /***
@@ -89,7 +122,7 @@ public class EOint extends EOObject {
      * @return A boolean representing the truth value of the comparison of this int with the {@code rightInt} free attribute
      */
     public EObool EOleq(EOObject rightInt) {
-        return new EObool(this.value <= rightInt._getData().toInt());
+        return EObool.of(this.value <= rightInt._getData().asLong());
     }
 
     /***
@@ -98,7 +131,7 @@ public class EOint extends EOObject {
      * @return A boolean representing the truth value of the comparison of this int with the {@code rightInt} free attribute
      */
     public EObool EOgreater(EOObject rightInt) {
-        return new EObool(this.value > rightInt._getData().toInt());
+        return EObool.of(this.value > rightInt._getData().asLong());
     }
 
     /***
@@ -107,7 +140,7 @@ public class EOint extends EOObject {
      * @return A boolean representing the truth value of the comparison of this int with the {@code rightInt} free attribute
      */
     public EObool EOgeq(EOObject rightInt) {
-        return new EObool(this.value >= rightInt._getData().toInt());
+        return EObool.of(this.value >= rightInt._getData().asLong());
     }
 
     /***
@@ -115,7 +148,7 @@ public class EOint extends EOObject {
      * @return A negative value of this int
      */
     public EOint EOneg() {
-        return new EOint(-value);
+        return EOint.of(-value);
     }
 
     /***
@@ -123,7 +156,7 @@ public class EOint extends EOObject {
      * @return An object representing the absolute value of this int
      */
     public EOint EOabs() {
-        return new EOint(Math.abs(this.value));
+        return EOint.of(Math.abs(this.value));
     }
 
     /***
@@ -131,7 +164,7 @@ public class EOint extends EOObject {
      * @return An object representing the sign number value of this int
      */
     public EOint EOsignum() {
-        return new EOint((long) Math.signum(this.value));
+        return EOint.of((long) Math.signum(this.value));
     }
 
     /***
@@ -140,7 +173,7 @@ public class EOint extends EOObject {
      * @return An object representing the  ({@code exponent} free attribute)th power of this int
      */
     public EOint EOpow(EOObject exponent) {
-        return new EOint((long) Math.pow(this.value, exponent._getData().toInt()));
+        return EOint.of((long) Math.pow(this.value, exponent._getData().asLong()));
     }
 
     /***
@@ -149,7 +182,7 @@ public class EOint extends EOObject {
      * @return An object representing the remainder of the division by  ({@code divisor} free attribute)
      */
     public EOint EOmod(EOObject divisor) {
-        return new EOint(Math.floorMod(this.value, divisor._getData().toInt()));
+        return EOint.of(Math.floorMod(this.value, divisor._getData().asLong()));
     }
 
     /**
@@ -208,4 +241,23 @@ public class EOint extends EOObject {
     public int hashCode() {
         return Objects.hash(value);
     }
+
+    /**
+     * The canonical instances of small ints.
+     * They are created on the first call of {@link #of(long)}.
+     */
+    private static final class Cache {
+
+        private static final long LOW = Long.getLong("eo.int.cache.low", -128L);
+
+        private static final long HIGH = Math.max(Long.getLong("eo.int.cache.high", 1024L), LOW - 1);
+
+        private static final EOint[] VALUES = new EOint[Math.toIntExact(HIGH - LOW + 1)];
+
+        static {
+            for (int i = 0; i < VALUES.length; i++) {
+                VALUES[i] = new EOint(LOW + i);
+            }
+        }
+    }
 }
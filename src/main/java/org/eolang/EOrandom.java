@@ -15,6 +15,6 @@ public class EOrandom extends EOObject {
         Long min = minValue._getData().toInt();
         Long max = maxValue._getData().toInt();
         if(max <= min) throw new IllegalArgumentException("maxValue must be greater than than minValue");
-        return new EOint(ThreadLocalRandom.current().nextLong(min, max));
+        return EOint.of(ThreadLocalRandom.current().nextLong(min, max));
     }
 }
@@ -2,30 +2,78 @@ package org.eolang;
 
 import org.eolang.core.EOObject;
 import org.eolang.core.data.EOData;
+import org.eolang.core.data.EOTextData;
 
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.regex.Matcher;
 
 /***
  * Represents a string type
  * @version %I%, %G%
  */
 public class EOstring extends EOObject {
-    private final String stringValue;
+    /**
+     * The characters of this string until the data behind it is created, then the data holds them
+     * (and keeps only the {@link String} once they are flattened into it).
+     */
+    private volatile EORope text;
+
+    /**
+     * The data behind this string, created on the first dataization.
+     * The data is immutable, so racing threads may only create it more than once.
+     */
+    private volatile EOTextData data;
 
     public EOstring() {
-        stringValue = "";
+        this(EORope.EMPTY);
     }
 
     public EOstring(String stringValue) {
-        this.stringValue = stringValue;
+        this(EORope.of(stringValue));
+    }
+
+    EOstring(EORope text) {
+        this.text = text;
     }
 
     @Override
     public EOData _getData() {
-        return new EOData(stringValue);
+        EOTextData result = data;
+        if (result == null) {
+            EORope chars = text;
+            if (chars == null) {
+                // the data has been created by another thread
+                return data;
+            }
+            result = new EOTextData(chars);
+            data = result;
+            text = null;
+        }
+        return result;
+    }
+
+    /**
+     * Provides the characters of this string, held either by this string or by its data.
+     */
+    private EORope text() {
+        EORope chars = text;
+        if (chars != null) {
+            return chars;
+        }
+        CharSequence held = data.chars();
+        return held instanceof EORope ? (EORope) held : EORope.of(held.toString());
+    }
+
+    /**
+     * Provides the value of this string to the runtime.
+     * The value is taken from the data of this string, which is created on the first dataization and reused,
+     * so the characters are flattened into the {@link String} only once.
+     */
+    String value() {
+        return _getData().toString();
     }
 
      /***
@@ -34,15 +82,19 @@ public class EOstring extends EOObject {
      * @return An object representing the concatenation of given string and {@code rightString}
      */
     public EOstring EOappend(EOObject... rightStrings) {
-        StringBuilder sb = new StringBuilder(stringValue);
+        EORope result = text();
         try{
             for (EOObject str : rightStrings) {
-                sb.append(str._getData().toString());
+                if (str instanceof EOstring) {
+                    result = result.concat(((EOstring) str).text());
+                } else {
+                    result = result.concat(EORope.of(str._getData().toString()));
+                }
             }
         }catch (Exception e){
             throw new InvalidParameterException();
         }
-        return new EOstring(sb.toString());
+        return new EOstring(result);
     }
 
     /***
@@ -53,7 +105,7 @@ public class EOstring extends EOObject {
      */
     public EOstring EOsubstring(EOObject begin, EOObject end) {
         try{
-            return new EOstring(stringValue.substring(begin._getData().toInt().intValue(), end._getData().toInt().intValue()));
+            return new EOstring(text().subSequence(begin._getData().toInt().intValue(), end._getData().toInt().intValue()));
         }catch (IndexOutOfBoundsException  e){
             throw new IndexOutOfBoundsException();
         }catch (Exception e){
@@ -66,26 +118,64 @@ public class EOstring extends EOObject {
      * @return An object representing the trimmed value of this string
      */
     public EOstring EOtrim() {
-        return new EOstring(stringValue.trim());
+        EORope text = text();
+        int start = 0;
+        int end = text.length();
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return new EOstring(text.subSequence(start, end));
     }
 
     /***
      * Splits a string by a separator
+     * An empty separator splits the string into its characters.
      * @param separator - the boundary string object.
      * @return the array of string objects computed by splitting this string on boundaries formed by the separator.
      */
     public EOarray EOsplit(EOObject separator){
+        // the pieces refer to the characters of this string, they are copied only when dataized
+        EORope whole = text().flattened();
+        String stringValue = whole.toString();
+        String sep = separator._getData().toString();
         List<EOstring> strList = new ArrayList<>();
         int i = 0;
+        int from = 0;
         int j;
-        while ((j = stringValue.indexOf(separator._getData().toString(), i)) >= 0) {
+        while (from <= stringValue.length() && (j = stringValue.indexOf(sep, from)) >= 0) {
             if(j>0)
-                strList.add(new EOstring(stringValue.substring(i, j)));
-            i = j + 1;
+                strList.add(new EOstring(whole.subSequence(i, j)));
+            i = j + sep.length();
+            // an empty separator is found at every position, so the search goes on from the next character
+            from = sep.isEmpty() ? i + 1 : i;
+        }
+        if(i < stringValue.length())
+            strList.add(new EOstring(whole.subSequence(i, stringValue.length())));
+        return new EOarray(strList.toArray(new EOstring[strList.size()]));
+    }
+
+    /***
+     * Splits a string by the matches of a regular expression
+     * The regular expressions are compiled once and reused (see {@link EOPatterns}).
+     * @param regex - the regular expression matching the boundaries.
+     * @return the array of string objects computed by splitting this string on the matches of the regular expression.
+     */
+    public EOarray EOsplitRegex(EOObject regex){
+        EORope whole = text().flattened();
+        String stringValue = whole.toString();
+        Matcher matcher = EOPatterns.compile(regex._getData().toString()).matcher(stringValue);
+        List<EOstring> strList = new ArrayList<>();
+        int i = 0;
+        while (matcher.find()) {
+            if(matcher.start()>0)
+                strList.add(new EOstring(whole.subSequence(i, matcher.start())));
+            i = matcher.end();
         }
-        String last = stringValue.substring(i);
-        if(last.length() > 0)
-            strList.add(new EOstring(last));
+        if(i < stringValue.length())
+            strList.add(new EOstring(whole.subSequence(i, stringValue.length())));
         return new EOarray(strList.toArray(new EOstring[strList.size()]));
     }
 
@@ -94,7 +184,7 @@ public class EOstring extends EOObject {
      * @return An object representing the integer value of this string
      */
     public EOint EOtoInt() {
-        return new EOint(Long.parseLong(stringValue));
+        return EOint.of(Long.parseLong(_getData().toString()));
     }
 
     /***
@@ -102,7 +192,7 @@ public class EOstring extends EOObject {
      * @return An object representing the float value of this string
      */
     public EOfloat EOtoFloat() {
-        return new EOfloat(Double.parseDouble(stringValue));
+        return new EOfloat(Double.parseDouble(_getData().toString()));
     }
 
     /***
@@ -111,7 +201,7 @@ public class EOstring extends EOObject {
      * @return An object representing the truth value of the comparison of this string with the {@code rightString} free attribute
      */
     public EObool EOeq(EOObject rightString) {
-        return new EObool(stringValue.equals(rightString._getData().toString()));
+        return EObool.of(_getData().toString().equals(rightString._getData().toString()));
     }
 
     /**
@@ -151,11 +241,11 @@ public class EOstring extends EOObject {
      */
     @Override
     public String toString() {
-        return "\""+stringValue+"\"";
+        return "\""+_getData()+"\"";
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(stringValue);
+        return Objects.hash(_getData().toString());
     }
 }
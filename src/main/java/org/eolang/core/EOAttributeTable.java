@@ -0,0 +1,342 @@
+package org.eolang.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Declares the per-class table of attributes of EO objects.
+ * The attributes are the same methods the generated dispatchers call (see {@link #isAttribute(Method)}),
+ * so an attribute is found (or not found) the same way whether the class has a generated dispatcher or not.
+ * The table of a class is resolved only once (on the first attribute access to an instance of the class)
+ * and is reused by all the subsequent lookups. Thus, the attribute access does not need to scan
+ * the methods of the class and invoke them through the Java Reflection API every time.
+ * The table is the dispatcher of the classes that have no generated dispatchers.
+ */
+final class EOAttributeTable extends EODispatcher {
+
+    /**
+     * The maximum number of arguments the attributes can be applied to without packing them into an array.
+     */
+    static final int MAX_FIXED_ARITY = 4;
+
+    /**
+     * Lazily resolved tables of all the classes which instances have been accessed through {@code _getAttribute}
+     * (unless the classes have generated dispatchers).
+     */
+    private static final ClassValue<EOAttributeTable> TABLES = new ClassValue<EOAttributeTable>() {
+        @Override
+        protected EOAttributeTable computeValue(Class<?> type) {
+            return new EOAttributeTable(type);
+        }
+    };
+
+    /**
+     * The prefix of the names of EO attributes.
+     */
+    private static final String PREFIX = "EO";
+
+    /**
+     * The attributes of the class by their names.
+     */
+    private final Map<String, Attribute> attributes;
+
+    /**
+     * Resolves the table of the {@code type} class.
+     *
+     * @param type The class to resolve the table for.
+     */
+    private EOAttributeTable(Class<?> type) {
+        Map<String, List<Layout>> overloads = new HashMap<>();
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        for (Method method : type.getMethods()) {
+            if (!isAttribute(method)) {
+                continue;
+            }
+            try {
+                method.setAccessible(true);
+                MethodHandle direct = lookup.unreflect(method);
+                overloads.computeIfAbsent(method.getName(), name -> new ArrayList<>())
+                        .add(new Layout(direct.asFixedArity(), method.getParameterTypes()));
+            } catch (Exception e) {
+                // the method cannot be accessed, so it is not an attribute
+            }
+        }
+        Map<String, Attribute> resolved = new HashMap<>();
+        for (Map.Entry<String, List<Layout>> entry : overloads.entrySet()) {
+            resolved.put(entry.getKey(), new Attribute(entry.getValue().toArray(new Layout[0])));
+        }
+        this.attributes = resolved;
+    }
+
+    /**
+     * Determines if {@code method} is an EO attribute: a public non-static method with the 'EO' prefix
+     * which parameters (and the elements of its varargs array) are references.
+     * The dispatchers generated by {@code org.eolang.core.processor.DispatcherProcessor} call the same methods.
+     *
+     * @param method The public method of a class.
+     * @return {@code true} if the method is an attribute.
+     */
+    static boolean isAttribute(Method method) {
+        if (!method.getName().startsWith(PREFIX) || Modifier.isStatic(method.getModifiers())) {
+            return false;
+        }
+        for (Class<?> parameter : method.getParameterTypes()) {
+            Class<?> type = parameter.isArray() ? parameter.getComponentType() : parameter;
+            if (type.isPrimitive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Provides the table of the {@code type} class.
+     *
+     * @param type The class to provide the table for.
+     * @return The table of the class.
+     */
+    static EOAttributeTable of(Class<?> type) {
+        return TABLES.get(type);
+    }
+
+    @Override
+    public Object dispatch(EOObject receiver, String name) throws Throwable {
+        Attribute attribute = find(name, 0);
+        return attribute == null ? ABSENT : attribute.invoke(receiver);
+    }
+
+    @Override
+    public Object dispatch(EOObject receiver, String name, EOObject a) throws Throwable {
+        Attribute attribute = find(name, 1);
+        return attribute == null ? ABSENT : attribute.invoke(receiver, a);
+    }
+
+    @Override
+    public Object dispatch(EOObject receiver, String name, EOObject a, EOObject b) throws Throwable {
+        Attribute attribute = find(name, 2);
+        return attribute == null ? ABSENT : attribute.invoke(receiver, a, b);
+    }
+
+    @Override
+    public Object dispatch(EOObject receiver, String name, EOObject a, EOObject b, EOObject c) throws Throwable {
+        Attribute attribute = find(name, 3);
+        return attribute == null ? ABSENT : attribute.invoke(receiver, a, b, c);
+    }
+
+    @Override
+    public Object dispatch(EOObject receiver, String name, EOObject a, EOObject b, EOObject c, EOObject d) throws Throwable {
+        Attribute attribute = find(name, 4);
+        return attribute == null ? ABSENT : attribute.invoke(receiver, a, b, c, d);
+    }
+
+    @Override
+    public Object dispatch(EOObject receiver, String name, EOObject[] arguments) throws Throwable {
+        Attribute attribute = find(name, arguments.length);
+        return attribute == null ? ABSENT : attribute.invoke(receiver, arguments);
+    }
+
+    /**
+     * Finds the attribute {@code name} that can be applied to {@code arity} arguments.
+     *
+     * @param name  The name of the attribute.
+     * @param arity The number of the arguments.
+     * @return The attribute, or null if the class does not declare it.
+     */
+    private Attribute find(String name, int arity) {
+        Attribute attribute = attributes.get(name);
+        return attribute != null && attribute.accepts(arity) ? attribute : null;
+    }
+
+    /**
+     * An attribute, i.e., all the methods of a class that share the same attribute name.
+     */
+    private static final class Attribute {
+
+        /**
+         * The methods behind the attribute in the order they are reported by {@code Class.getMethods()}.
+         */
+        private final Layout[] overloads;
+
+        /**
+         * The invokers of the attribute by the number of the arguments it is applied to.
+         * The invoker for N arguments has the {@code (Object, Object_1, ..., Object_N)Object} type,
+         * so it accepts the receiver object and the arguments as is (without packing them into an array).
+         * The invoker is null if the attribute cannot be applied to N arguments.
+         */
+        private final MethodHandle[] invokers = new MethodHandle[MAX_FIXED_ARITY + 1];
+
+        private Attribute(Layout[] overloads) {
+            this.overloads = overloads;
+            for (int arity = 0; arity <= MAX_FIXED_ARITY; arity++) {
+                Layout layout = select(arity);
+                if (layout != null) {
+                    invokers[arity] = layout.invoker(arity);
+                }
+            }
+        }
+
+        /**
+         * Determines if the attribute can be applied to {@code arity} arguments.
+         *
+         * @param arity The number of the arguments.
+         * @return {@code true} if there is a method that can receive {@code arity} arguments.
+         */
+        private boolean accepts(int arity) {
+            if (arity <= MAX_FIXED_ARITY) {
+                return invokers[arity] != null;
+            }
+            return select(arity) != null;
+        }
+
+        private Object invoke(Object receiver) throws Throwable {
+            return invokers[0].invokeExact(receiver);
+        }
+
+        private Object invoke(Object receiver, Object a) throws Throwable {
+            return invokers[1].invokeExact(receiver, a);
+        }
+
+        private Object invoke(Object receiver, Object a, Object b) throws Throwable {
+            return invokers[2].invokeExact(receiver, a, b);
+        }
+
+        private Object invoke(Object receiver, Object a, Object b, Object c) throws Throwable {
+            return invokers[3].invokeExact(receiver, a, b, c);
+        }
+
+        private Object invoke(Object receiver, Object a, Object b, Object c, Object d) throws Throwable {
+            return invokers[4].invokeExact(receiver, a, b, c, d);
+        }
+
+        /**
+         * Applies the attribute to an arbitrary number of arguments.
+         *
+         * @param receiver  The object the attribute belongs to.
+         * @param arguments The arguments of the attribute.
+         * @return The result of the method behind the attribute.
+         */
+        private Object invoke(Object receiver, EOObject[] arguments) throws Throwable {
+            switch (arguments.length) {
+                case 0:
+                    return invoke(receiver);
+                case 1:
+                    return invoke(receiver, arguments[0]);
+                case 2:
+                    return invoke(receiver, arguments[0], arguments[1]);
+                case 3:
+                    return invoke(receiver, arguments[0], arguments[1], arguments[2]);
+                case 4:
+                    return invoke(receiver, arguments[0], arguments[1], arguments[2], arguments[3]);
+                default:
+                    return select(arguments.length).invoke(receiver, arguments);
+            }
+        }
+
+        /**
+         * Selects the method to apply to {@code arity} arguments.
+         * Methods with exactly {@code arity} parameters are preferred, then varargs methods are tried,
+         * and, finally, methods with fewer parameters are used (the extra arguments are ignored).
+         *
+         * @param arity The number of the arguments.
+         * @return The selected method, or null if no method can receive {@code arity} arguments.
+         */
+        private Layout select(int arity) {
+            Layout varargs = null;
+            Layout shorter = null;
+            for (Layout layout : overloads) {
+                if (layout.varargs) {
+                    if (varargs == null && layout.fixed <= arity) {
+                        varargs = layout;
+                    }
+                } else if (layout.fixed == arity) {
+                    return layout;
+                } else if (shorter == null && layout.fixed < arity) {
+                    shorter = layout;
+                }
+            }
+            return varargs != null ? varargs : shorter;
+        }
+    }
+
+    /**
+     * The parameter layout of a method, computed once per method.
+     */
+    private static final class Layout {
+
+        /**
+         * The handle of the method in its fixed-arity form.
+         */
+        private final MethodHandle direct;
+
+        /**
+         * The number of the parameters preceding the varargs array (or all the parameters if there is no array).
+         */
+        private final int fixed;
+
+        /**
+         * Determines if the last parameter of the method is an array that receives the rest of the arguments.
+         */
+        private final boolean varargs;
+
+        /**
+         * The handle of the method adapted to the {@code (Object, Object[])Object} type.
+         * It receives the prepared (i.e., already packed into the varargs array) arguments.
+         */
+        private final MethodHandle spread;
+
+        private Layout(MethodHandle direct, Class<?>[] parameterTypes) {
+            this.direct = direct;
+            this.varargs = parameterTypes.length > 0 && parameterTypes[parameterTypes.length - 1].isArray();
+            this.fixed = varargs ? parameterTypes.length - 1 : parameterTypes.length;
+            this.spread = direct
+                    .asType(MethodType.genericMethodType(parameterTypes.length + 1))
+                    .asSpreader(Object[].class, parameterTypes.length);
+        }
+
+        /**
+         * Adapts the method to be applied to {@code arity} arguments passed as is.
+         *
+         * @param arity The number of the arguments (must be accepted by this method).
+         * @return The handle of the {@code (Object, Object_1, ..., Object_arity)Object} type.
+         */
+        private MethodHandle invoker(int arity) {
+            MethodHandle handle = direct;
+            if (varargs) {
+                handle = handle.asCollector(handle.type().lastParameterType(), arity - fixed);
+            }
+            handle = handle.asType(MethodType.genericMethodType(handle.type().parameterCount()));
+            if (handle.type().parameterCount() < arity + 1) {
+                handle = MethodHandles.dropArguments(
+                        handle,
+                        handle.type().parameterCount(),
+                        Collections.<Class<?>>nCopies(arity + 1 - handle.type().parameterCount(), Object.class)
+                );
+            }
+            return handle;
+        }
+
+        /**
+         * Applies the method to an arbitrary number of arguments packing the rest of them into the varargs array.
+         */
+        private Object invoke(Object receiver, EOObject[] arguments) throws Throwable {
+            Object[] prepared = new Object[varargs ? fixed + 1 : fixed];
+            System.arraycopy(arguments, 0, prepared, 0, fixed);
+            if (varargs) {
+                Class<?> arrayType = direct.type().lastParameterType();
+                Object[] rest = (Object[]) Array.newInstance(arrayType.getComponentType(), arguments.length - fixed);
+                System.arraycopy(arguments, fixed, rest, 0, rest.length);
+                prepared[fixed] = rest;
+            }
+            return spread.invokeExact(receiver, prepared);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.eolang.core;
+
+/**
+ * Declares the dispatcher of attributes of EO objects of a certain class.
+ * The dispatcher applies the attribute requested by its name to the receiver object.
+ * <p>
+ * The dispatchers of the classes compiled along with {@code org.eolang.core.processor.DispatcherProcessor}
+ * are generated at compile time: they are named {@code <Class>$EODispatcher}, and they call
+ * the EO attributes (i.e., public methods with the 'EO' prefix) directly in a switch over attribute names.
+ * For the other classes, the dispatcher relies on method handles resolved from the class through the Java Reflection API.
+ */
+public abstract class EODispatcher {
+
+    /**
+     * The suffix of the names of generated dispatchers.
+     */
+    public static final String SUFFIX = "$EODispatcher";
+
+    /**
+     * Returned by dispatch methods when the class does not declare an attribute
+     * with the requested name that can be applied to the provided number of arguments.
+     */
+    protected static final Object ABSENT = new Object();
+
+    /**
+     * The dispatchers of all the classes which instances have been accessed through {@code _getAttribute}.
+     */
+    private static final ClassValue<EODispatcher> DISPATCHERS = new ClassValue<EODispatcher>() {
+        @Override
+        protected EODispatcher computeValue(Class<?> type) {
+            try {
+                Class<?> generated = Class.forName(type.getName() + SUFFIX, true, type.getClassLoader());
+                if (EODispatcher.class.isAssignableFrom(generated)) {
+                    return (EODispatcher) generated.getConstructor().newInstance();
+                }
+            } catch (Exception | LinkageError e) {
+                // there is no generated dispatcher for the class, so it is resolved through reflection
+            }
+            return EOAttributeTable.of(type);
+        }
+    };
+
+    /**
+     * Provides the dispatcher of the {@code type} class.
+     * The dispatcher is resolved only once, on the first request.
+     *
+     * @param type The class of the receiver objects.
+     * @return The generated dispatcher of the class if it is present, or the reflective one otherwise.
+     */
+    static EODispatcher of(Class<?> type) {
+        return DISPATCHERS.get(type);
+    }
+
+    /**
+     * Applies the attribute {@code name} of {@code receiver} to no arguments.
+     *
+     * @return The attribute object, or {@link #ABSENT} if the attribute is not declared.
+     */
+    public abstract Object dispatch(EOObject receiver, String name) throws Throwable;
+
+    /**
+     * Applies the attribute {@code name} of {@code receiver} to one argument.
+     *
+     * @return The attribute object, or {@link #ABSENT} if the attribute is not declared.
+     */
+    public abstract Object dispatch(EOObject receiver, String name, EOObject a) throws Throwable;
+
+    /**
+     * Applies the attribute {@code name} of {@code receiver} to two arguments.
+     *
+     * @return The attribute object, or {@link #ABSENT} if the attribute is not declared.
+     */
+    public abstract Object dispatch(EOObject receiver, String name, EOObject a, EOObject b) throws Throwable;
+
+    /**
+     * Applies the attribute {@code name} of {@code receiver} to three arguments.
+     *
+     * @return The attribute object, or {@link #ABSENT} if the attribute is not declared.
+     */
+    public abstract Object dispatch(EOObject receiver, String name, EOObject a, EOObject b, EOObject c) throws Throwable;
+
+    /**
+     * Applies the attribute {@code name} of {@code receiver} to four arguments.
+     *
+     * @return The attribute object, or {@link #ABSENT} if the attribute is not declared.
+     */
+    public abstract Object dispatch(EOObject receiver, String name, EOObject a, EOObject b, EOObject c, EOObject d) throws Throwable;
+
+    /**
+     * Applies the attribute {@code name} of {@code receiver} to an arbitrary number of arguments.
+     * Up to four arguments are dispatched through the fixed-arity variants,
+     * more arguments are dispatched through the reflective table of the class of {@code receiver}.
+     *
+     * @return The attribute object, or {@link #ABSENT} if the attribute is not declared.
+     */
+    public Object dispatch(EOObject receiver, String name, EOObject[] arguments) throws Throwable {
+        switch (arguments.length) {
+            case 0:
+                return dispatch(receiver, name);
+            case 1:
+                return dispatch(receiver, name, arguments[0]);
+            case 2:
+                return dispatch(receiver, name, arguments[0], arguments[1]);
+            case 3:
+                return dispatch(receiver, name, arguments[0], arguments[1], arguments[2]);
+            case 4:
+                return dispatch(receiver, name, arguments[0], arguments[1], arguments[2], arguments[3]);
+            default:
+                return EOAttributeTable.of(receiver.getClass()).dispatch(receiver, name, arguments);
+        }
+    }
+}
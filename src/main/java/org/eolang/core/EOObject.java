@@ -2,13 +2,6 @@ package org.eolang.core;
 
 import org.eolang.core.data.EOData;
 
-import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
-
 
 /**
  * Declares the base EO object.
@@ -17,6 +10,21 @@ import java.util.stream.Collectors;
  */
 public abstract class EOObject implements Cloneable {
 
+    /**
+     * Determines for each class if it overrides the {@code _getData} method,
+     * i.e., if its objects have their own data instead of relying on their decoratees.
+     */
+    private static final ClassValue<Boolean> DATA_OVERRIDES = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("_getData").getDeclaringClass() != EOObject.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     /**
      * User-defined class (i.e., one generated by transpiler) overrides this method
      * to declare its decoratee (i.e., an object it decorates).
@@ -74,21 +82,58 @@ public abstract class EOObject implements Cloneable {
 
     /**
      * Retrieves data behind this object (i.e., performs dataization operation over the object).
+     * The decoration hierarchy is unwound in a loop (not recursively), so long chains of decoratees
+     * (and thunks wrapping them) do not consume the call stack.
+     * Dataizations nested deeper than a thread can hold continue on the next segment of the stack (see {@link EOStack}).
      *
      * @return Data behind this object.
      * @throws RuntimeException Thrown when this object cannot be dataized since it has nor data behind it, neither a decoratee to rely on.
      */
     public EOData _getData() {
-        final EOObject decoratedObject = _decoratee();
-        if (decoratedObject == null) {
-            throw new RuntimeException(String.format("Object %s cannot be dataized: it has nor data behind it, neither a decoratee to rely on.", getClass().getTypeName()));
+        EOStack stack = EOStack.enter();
+        if (stack == null) {
+            return EOStack.continued(this::_dataize);
+        }
+        try {
+            return _dataize();
+        } finally {
+            stack.exit();
+        }
+    }
+
+    /**
+     * Unwinds the decoration hierarchy of this object up to the object having data.
+     */
+    private EOData _dataize() {
+        EOObject current = this;
+        while (true) {
+            EOObject decoratedObject = current._decoratee();
+            if (decoratedObject == null || decoratedObject == current) {
+                throw new RuntimeException(String.format("Object %s cannot be dataized: it has nor data behind it, neither a decoratee to rely on.", current.getClass().getTypeName()));
+            }
+            current = decoratedObject._receiver();
+            if (DATA_OVERRIDES.get(current.getClass())) {
+                return current._getData();
+            }
         }
-        return decoratedObject._getData();
+    }
+
+    /**
+     * Provides the object that actually receives messages sent to this object.
+     * Ordinary objects receive messages themselves, while wrappers (e.g., thunks)
+     * return the objects they wrap.
+     *
+     * @return The receiver of the messages sent to this object.
+     */
+    EOObject _receiver() {
+        return this;
     }
 
     /**
      * Instantiates the attribute object {@code name} of this object.
      * Performs lookup of the attribute in the class that declares this object + in the decoration hierarchy.
+     * The decoration hierarchy is walked iteratively: each class remembers (in its dispatcher)
+     * whether it declares the attribute, so missing attributes are detected without throwing exceptions.
      *
      * @param name      The name of the attribute being accessed.
      * @param arguments The arguments that are passed to the attribute object application/instantiation method.
@@ -96,32 +141,131 @@ public abstract class EOObject implements Cloneable {
      * @throws RuntimeException Thrown when the attribute is not present in this object.
      */
     public EOObject _getAttribute(String name, EOObject... arguments) {
-        try {
-            Method method = Arrays.stream(getClass().getMethods()).filter(mthd -> mthd.getName().equals(name)).findFirst().get();
-            Parameter[] methodParams = method.getParameters();
-            method.setAccessible(true);
-            return (EOObject) method.invoke(this, _prepareFreeAtt(methodParams, arguments));
-        } catch (Exception e) {
-            if (_decoratee() != null && _decoratee() != this) {
-                return _decoratee()._getAttribute(name, arguments);
-            } else {
-                e.printStackTrace();
-                throw new RuntimeException(String.format("Can't access the %s attribute of the %s object", name, getClass().getTypeName()));
-            }
-        }
+        return _resolveAttribute(name, arguments.length, null, null, null, null, arguments);
     }
 
-    private Object[] _prepareFreeAtt(Parameter[] methodParams, EOObject... arguments) {
-        List<Object> methodValues = new ArrayList<>();
-        for (int i = 0; i < methodParams.length; i++) {
-            if (methodParams[i].getType().getCanonicalName().endsWith("[]")) {
-                List<EOObject> objs = Arrays.stream(arguments).skip(i).collect(Collectors.toList());
-                methodValues.add(objs.toArray(new EOObject[0]));
-                break;
-            } else {
-                methodValues.add(arguments[i]);
+    /**
+     * Instantiates the attribute object {@code name} of this object with no arguments.
+     * This is a fixed-arity variant of {@link #_getAttribute(String, EOObject...)}
+     * that does not pack the arguments into an array.
+     *
+     * @param name The name of the attribute being accessed.
+     * @return The attribute object.
+     * @throws RuntimeException Thrown when the attribute is not present in this object.
+     */
+    public EOObject _getAttribute(String name) {
+        return _resolveAttribute(name, 0, null, null, null, null, null);
+    }
+
+    /**
+     * Instantiates the attribute object {@code name} of this object with one argument.
+     * This is a fixed-arity variant of {@link #_getAttribute(String, EOObject...)}
+     * that does not pack the arguments into an array.
+     *
+     * @param name The name of the attribute being accessed.
+     * @param a    The first argument.
+     * @return The attribute object instantiated with the provided argument.
+     * @throws RuntimeException Thrown when the attribute is not present in this object.
+     */
+    public EOObject _getAttribute(String name, EOObject a) {
+        return _resolveAttribute(name, 1, a, null, null, null, null);
+    }
+
+    /**
+     * Instantiates the attribute object {@code name} of this object with two arguments.
+     * This is a fixed-arity variant of {@link #_getAttribute(String, EOObject...)}
+     * that does not pack the arguments into an array.
+     *
+     * @param name The name of the attribute being accessed.
+     * @param a    The first argument.
+     * @param b    The second argument.
+     * @return The attribute object instantiated with the provided arguments.
+     * @throws RuntimeException Thrown when the attribute is not present in this object.
+     */
+    public EOObject _getAttribute(String name, EOObject a, EOObject b) {
+        return _resolveAttribute(name, 2, a, b, null, null, null);
+    }
+
+    /**
+     * Instantiates the attribute object {@code name} of this object with three arguments.
+     * This is a fixed-arity variant of {@link #_getAttribute(String, EOObject...)}
+     * that does not pack the arguments into an array.
+     *
+     * @param name The name of the attribute being accessed.
+     * @param a    The first argument.
+     * @param b    The second argument.
+     * @param c    The third argument.
+     * @return The attribute object instantiated with the provided arguments.
+     * @throws RuntimeException Thrown when the attribute is not present in this object.
+     */
+    public EOObject _getAttribute(String name, EOObject a, EOObject b, EOObject c) {
+        return _resolveAttribute(name, 3, a, b, c, null, null);
+    }
+
+    /**
+     * Instantiates the attribute object {@code name} of this object with four arguments.
+     * This is a fixed-arity variant of {@link #_getAttribute(String, EOObject...)}
+     * that does not pack the arguments into an array.
+     *
+     * @param name The name of the attribute being accessed.
+     * @param a    The first argument.
+     * @param b    The second argument.
+     * @param c    The third argument.
+     * @param d    The fourth argument.
+     * @return The attribute object instantiated with the provided arguments.
+     * @throws RuntimeException Thrown when the attribute is not present in this object.
+     */
+    public EOObject _getAttribute(String name, EOObject a, EOObject b, EOObject c, EOObject d) {
+        return _resolveAttribute(name, 4, a, b, c, d, null);
+    }
+
+    /**
+     * Looks the attribute {@code name} up in this object and its decoration hierarchy and applies it to the arguments.
+     * The arguments are passed either one by one ({@code a}, {@code b}, {@code c}, {@code d}) by the fixed-arity
+     * variants of {@code _getAttribute}, or as the {@code arguments} array by the varargs one.
+     */
+    private EOObject _resolveAttribute(String name, int arity, EOObject a, EOObject b, EOObject c, EOObject d, EOObject[] arguments) {
+        Throwable failure = null;
+        EOObject receiver = _receiver();
+        while (true) {
+            EODispatcher dispatcher = EODispatcher.of(receiver.getClass());
+            try {
+                Object result;
+                if (arguments != null) {
+                    result = dispatcher.dispatch(receiver, name, arguments);
+                } else {
+                    switch (arity) {
+                        case 0:
+                            result = dispatcher.dispatch(receiver, name);
+                            break;
+                        case 1:
+                            result = dispatcher.dispatch(receiver, name, a);
+                            break;
+                        case 2:
+                            result = dispatcher.dispatch(receiver, name, a, b);
+                            break;
+                        case 3:
+                            result = dispatcher.dispatch(receiver, name, a, b, c);
+                            break;
+                        default:
+                            result = dispatcher.dispatch(receiver, name, a, b, c, d);
+                            break;
+                    }
+                }
+                if (result != EODispatcher.ABSENT) {
+                    return (EOObject) result;
+                }
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                // the attribute cannot be applied to the arguments, so the decoratee is tried
+                failure = e;
+            }
+            EOObject decoratee = receiver._decoratee();
+            if (decoratee == null || decoratee == receiver) {
+                throw new RuntimeException(String.format("Can't access the %s attribute of the %s object", name, receiver.getClass().getTypeName()), failure);
             }
+            receiver = decoratee._receiver();
         }
-        return methodValues.toArray();
     }
 }
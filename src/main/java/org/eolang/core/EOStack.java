@@ -0,0 +1,232 @@
+package org.eolang.core;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * The segmented call stack of dataization.
+ * <p>
+ * Dataization of deeply recursive EO programs nests as deep as the recursion is: each level dataizes objects
+ * and instantiates the wrapped objects of thunks while the previous level waits for them.
+ * The nested evaluations (dataizations and instantiations of thunks) run on segments: pooled threads
+ * with the call stack of {@code eo.stack} megabytes (16 by default). The launcher dataizes the program
+ * on a segment from the start (see {@link #continued(Supplier)}), so its evaluations count their depth in a field
+ * of the thread. Other threads that start dataization count in a thread-local variable, and they continue
+ * on a segment after {@code eo.stack.depth} nested evaluations (256 by default).
+ * A segment takes {@code eo.stack.depth} times {@code eo.stack} nested evaluations, and then the next one
+ * continues on the next segment, while the thread of the previous segment waits for it.
+ * Every evaluation is performed exactly once (nothing is repeated, unlike with a trampoline restarting
+ * the evaluations, so the side effects, e.g. printing, happen once).
+ * <p>
+ * A dataization takes up to {@code eo.stack.segments} segments (64 by default), which are as many threads
+ * waiting for each other, so the depth of recursion is limited by {@code eo.stack.segments} times the number
+ * of evaluations a segment takes (about 260,000 by default). Deeper dataization fails with an error
+ * naming these properties instead of creating more threads.
+ */
+final class EOStack {
+
+    /**
+     * The maximum number of nested evaluations performed by a thread that starts dataization.
+     */
+    private static final int DEPTH = Math.max(1, Integer.getInteger("eo.stack.depth", 256));
+
+    /**
+     * The size (in megabytes) of the call stack of the threads of the segments.
+     */
+    private static final long SIZE = Math.max(1L, Long.getLong("eo.stack", 16L));
+
+    /**
+     * The maximum number of nested evaluations performed by a segment,
+     * it is as many times larger than {@link #DEPTH} as the stack of the segment is larger than one megabyte.
+     */
+    private static final int SEGMENT_DEPTH = (int) Math.min(Integer.MAX_VALUE, DEPTH * SIZE);
+
+    /**
+     * The maximum number of segments a dataization takes.
+     */
+    private static final int SEGMENTS = Math.max(1, Integer.getInteger("eo.stack.segments", 64));
+
+    /**
+     * The stacks of the threads that are not segments.
+     */
+    private static final ThreadLocal<EOStack> CURRENT = ThreadLocal.withInitial(() -> new EOStack(null, DEPTH));
+
+    /**
+     * The threads of the segments, the idle ones are reused.
+     */
+    private static final ExecutorService POOL = Executors.newCachedThreadPool(new Segments());
+
+    /**
+     * The segment waiting for this one, or {@code null} if this segment starts dataization.
+     */
+    private final EOStack previous;
+
+    /**
+     * The thread of this segment.
+     */
+    private final Thread thread;
+
+    /**
+     * The maximum number of nested evaluations in this segment.
+     */
+    private final int limit;
+
+    /**
+     * The number of segments up to this one, the stack of a thread which is not a segment has none.
+     */
+    private final int count;
+
+    /**
+     * The number of nested evaluations in progress in this segment.
+     */
+    private int depth;
+
+    private EOStack(EOStack previous, int limit) {
+        this.previous = previous;
+        this.thread = Thread.currentThread();
+        this.limit = limit;
+        if (previous == null) {
+            this.count = 0;
+        } else {
+            this.count = previous.count + 1;
+        }
+    }
+
+    /**
+     * Starts a nested evaluation in the segment of the current thread.
+     * The evaluation must be finished with {@link #exit()} of the returned segment.
+     *
+     * @return The segment of the current thread, or {@code null} if the segment is full,
+     * and the evaluation must be continued on the next one with {@link #continued(Supplier)}.
+     */
+    static EOStack enter() {
+        EOStack segment = current();
+        if (segment.depth >= segment.limit) {
+            return null;
+        }
+        segment.depth++;
+        return segment;
+    }
+
+    /**
+     * Finishes a nested evaluation started by {@link #enter()}.
+     */
+    void exit() {
+        depth--;
+    }
+
+    /**
+     * Performs {@code evaluation} on the next segment and waits for it, even if the current thread is interrupted
+     * (the interruption is kept for the code waiting for the whole dataization).
+     *
+     * @return The result of the evaluation.
+     * @throws RuntimeException Thrown when the evaluation fails (the exception of the evaluation is rethrown),
+     * or when the dataization has taken all the {@code eo.stack.segments} segments.
+     */
+    static <T> T continued(Supplier<T> evaluation) {
+        EOStack current = current();
+        if (current.count >= SEGMENTS) {
+            throw new RuntimeException(
+                    String.format(
+                            "The dataization is nested too deeply: it has taken all the %d segments of the stack of %d MB. Increase the eo.stack.segments or the eo.stack system property if the recursion is meant to be that deep.",
+                            SEGMENTS,
+                            SIZE
+                    )
+            );
+        }
+        Future<T> result = POOL.submit(() -> {
+            Segment segment = (Segment) Thread.currentThread();
+            segment.stack = new EOStack(current, SEGMENT_DEPTH);
+            try {
+                return evaluation.get();
+            } finally {
+                segment.stack = null;
+            }
+        });
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return result.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    throw new RuntimeException(cause);
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Determines if the evaluation performed by {@code thread} is waited for by the current evaluation,
+     * i.e. if {@code thread} is the current one or the one of a segment the current segment continues.
+     */
+    static boolean waits(Thread thread) {
+        for (EOStack segment = current(); segment != null; segment = segment.previous) {
+            if (segment.thread == thread) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Provides the segment of the current thread: the one of the segment thread, or the thread-local one otherwise.
+     */
+    private static EOStack current() {
+        Thread thread = Thread.currentThread();
+        if (thread instanceof Segment) {
+            EOStack stack = ((Segment) thread).stack;
+            if (stack != null) {
+                return stack;
+            }
+        }
+        return CURRENT.get();
+    }
+
+    /**
+     * The thread of segments, it holds the segment it is performing.
+     */
+    private static final class Segment extends Thread {
+
+        /**
+         * The segment performed by this thread, or {@code null} if the thread is idle.
+         */
+        private EOStack stack;
+
+        private Segment(Runnable task, String name) {
+            super(null, task, name, SIZE * 1024L * 1024L);
+        }
+    }
+
+    /**
+     * Creates the threads of the segments.
+     */
+    private static final class Segments implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Segment(task, "eo-stack-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.eolang.core;
 
 import org.eolang.core.data.EOData;
 
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Supplier;
 
 /**
@@ -12,18 +13,34 @@ import java.util.function.Supplier;
  * the thunk instantiates the wrapped object and saves it to its internal state.
  * After it, the thunk delivers the message to the wrapped object.
  * Any further message is delivered directly to the saved object.
+ * <p>
+ * Thunks can be shared between threads: the wrapped object is instantiated exactly once,
+ * even if several threads send messages to the thunk simultaneously.
+ * The threads that come while the object is being instantiated wait for it,
+ * and, once it is instantiated, messages are delivered to it without any locking.
  */
 public class EOThunk extends EOObject {
 
+    /**
+     * Atomically moves the thunk from the initial state to the evaluation state.
+     */
+    private static final AtomicReferenceFieldUpdater<EOThunk, Object> COMPUTED =
+            AtomicReferenceFieldUpdater.newUpdater(EOThunk.class, Object.class, "computed");
+
     /**
      * The saved instance of the wrapped object.
+     * Before the instantiation, it is null, and during the instantiation, it is the {@link Evaluation} in progress.
+     * The saved object is never a thunk: if the lambda instantiates another thunk, the thunk saves the object
+     * that the other thunk wraps (like union-find compresses paths), so chains of thunks are passed in one step.
      */
-    private EOObject computed;
+    private volatile Object computed;
 
     /***
      * The lambda that is used to instantiate the wrapped object lazily.
+     * It is released once the wrapped object is instantiated, so everything the lambda captures
+     * (e.g., parent objects) does not stay reachable for as long as the thunk lives.
      */
-    private final Supplier<EOObject> thunk;
+    private Supplier<EOObject> thunk;
 
     /**
      * Creates a lazy (delayed) instantiation of a wrapped object.
@@ -35,41 +52,141 @@ public class EOThunk extends EOObject {
     }
 
     /**
-     * Unwraps the wrapped object. Called only once (when any message is sent to the thunk for the first time).
+     * Unwraps the wrapped object. The lambda is called only once (when any message is sent to the thunk for the first time).
+     *
+     * @return The wrapped object.
+     */
+    private EOObject compute() {
+        Object current = computed;
+        if (current instanceof EOObject) {
+            return (EOObject) current;
+        }
+        return evaluate();
+    }
+
+    /**
+     * Instantiates the wrapped object or waits until another thread instantiates it.
+     * If the lambda fails, the thunk returns to the initial state, so the next message retries the instantiation.
+     *
+     * @return The wrapped object.
      */
-    private void compute() {
-        computed = thunk.get();
+    private EOObject evaluate() {
+        while (true) {
+            Object current = computed;
+            if (current instanceof EOObject) {
+                return (EOObject) current;
+            }
+            if (current != null) {
+                ((Evaluation) current).await();
+                continue;
+            }
+            Evaluation evaluation = new Evaluation();
+            if (!COMPUTED.compareAndSet(this, null, evaluation)) {
+                continue;
+            }
+            EOObject result;
+            try {
+                result = instantiate(thunk);
+                if (result instanceof EOThunk) {
+                    // the wrapped thunk is already compressed, so this thunk points directly to the final object
+                    result = ((EOThunk) result).compute();
+                }
+            } catch (Throwable e) {
+                computed = null;
+                evaluation.finish();
+                throw e;
+            }
+            computed = result;
+            if (result != null) {
+                // only the thread that wins the evaluation reads the lambda, and no thread can win it anymore
+                thunk = null;
+            }
+            evaluation.finish();
+            return result;
+        }
+    }
+
+    /**
+     * Calls {@code supplier} as a nested evaluation, continuing on the next segment of the stack if the current one is full
+     * (see {@link EOStack}), so deep chains of thunks instantiating each other do not overflow the call stack.
+     */
+    private static EOObject instantiate(Supplier<EOObject> supplier) {
+        EOStack stack = EOStack.enter();
+        if (stack == null) {
+            return EOStack.continued(supplier);
+        }
+        try {
+            return supplier.get();
+        } finally {
+            stack.exit();
+        }
+    }
+
+    @Override
+    EOObject _receiver() {
+        return compute()._receiver();
     }
 
     @Override
     public EOObject _getDecoratedObject() {
-        if (computed == null) {
-            compute();
-        }
-        return computed._getDecoratedObject();
+        return compute()._getDecoratedObject();
     }
 
     @Override
     public EOObject _getParentObject() {
-        if (computed == null) {
-            compute();
-        }
-        return computed._getParentObject();
+        return compute()._getParentObject();
     }
 
     @Override
     public EOData _getData() {
-        if (computed == null) {
-            compute();
-        }
-        return computed._getData();
+        return compute()._getData();
     }
 
-    @Override
-    public EOObject _getAttribute(String name, EOObject... arguments) {
-        if (computed == null) {
-            compute();
+    /**
+     * The instantiation of the wrapped object in progress.
+     * Other threads wait for it to finish.
+     */
+    private static final class Evaluation {
+
+        /**
+         * The thread that instantiates the wrapped object.
+         */
+        private final Thread owner = Thread.currentThread();
+
+        /**
+         * Determines if the instantiation has finished (either successfully or not).
+         */
+        private boolean finished;
+
+        /**
+         * Wakes up the threads waiting for the instantiation.
+         */
+        private synchronized void finish() {
+            finished = true;
+            notifyAll();
+        }
+
+        /**
+         * Waits for the instantiation to finish.
+         *
+         * @throws RuntimeException Thrown when the wrapped object refers to itself during its instantiation.
+         */
+        private synchronized void await() {
+            // the owner may wait for this thread to continue its evaluation on the next segment of the stack
+            if (EOStack.waits(owner)) {
+                throw new RuntimeException("Can't instantiate the wrapped object of the thunk: it depends on itself.");
+            }
+            boolean interrupted = false;
+            while (!finished) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
         }
-        return computed._getAttribute(name, arguments);
     }
 }
@@ -1,7 +1,9 @@
 package org.eolang.core;
 
 import org.eolang.EOstring;
+import org.eolang.core.data.EOData;
 import org.eolang.core.data.EODataObject;
+import org.eolang.io.EOOutput;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -30,11 +32,13 @@ public class Main {
 
     /**
      * The method called by JVM when the program starts.
+     * The standard output of the program is buffered (see {@link EOOutput}).
      *
      * @param args Command line args
      * @throws Exception If fails
      */
     public static void main(final String... args) throws Exception {
+        EOOutput.buffer();
         new Main(System.out).exec(args);
     }
 
@@ -65,7 +69,25 @@ public class Main {
             }
         }
         EOObject app = (EOObject) appConstructor.newInstance(appValues.toArray());
-        System.out.print(String.format("%s", app._getData().toString()));
+        try {
+            EOOutput.print(String.format("%s", Main.dataize(app).toString()));
+        } finally {
+            EOOutput.flush();
+        }
+    }
+
+    /**
+     * Dataizes the application object on a segment of the dataization stack (see {@link EOStack}),
+     * a pooled thread with a large call stack, on which the nested evaluations continue
+     * as deep as the segment can hold before they continue on the next segments.
+     * The calling thread waits for the dataization (even if it is interrupted),
+     * so the program is dataized completely once this method returns.
+     *
+     * @param app The application object
+     * @return Data behind the application object
+     */
+    private static EOData dataize(final EOObject app) {
+        return EOStack.continued(app::_getData);
     }
 
     /**
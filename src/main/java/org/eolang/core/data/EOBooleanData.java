@@ -0,0 +1,92 @@
+package org.eolang.core.data;
+
+/**
+ * Данные - логическое значение, хранимое без упаковки в {@code Boolean}.
+ */
+public final class EOBooleanData extends EOData {
+    /**
+     * Истина
+     */
+    public static final EOBooleanData TRUE = new EOBooleanData(true);
+
+    /**
+     * Ложь
+     */
+    public static final EOBooleanData FALSE = new EOBooleanData(false);
+
+    /**
+     * Данные
+     */
+    private final boolean value;
+
+    public EOBooleanData(boolean value) {
+        this.value = value;
+    }
+
+    /**
+     * @return the canonical instance of the {@code value} data
+     */
+    public static EOBooleanData of(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    @Override
+    public String toString() {
+        return Boolean.toString(value);
+    }
+
+    @Override
+    public Character toChar() {
+        return '0';
+    }
+
+    @Override
+    public Object toObject() {
+        return Boolean.valueOf(value);
+    }
+
+    @Override
+    public Long toInt() {
+        return 0L;
+    }
+
+    @Override
+    public Double toFloat() {
+        return 0D;
+    }
+
+    @Override
+    public Boolean toBoolean() {
+        return Boolean.valueOf(value);
+    }
+
+    @Override
+    public long asLong() {
+        return 0L;
+    }
+
+    @Override
+    public double asDouble() {
+        return 0D;
+    }
+
+    @Override
+    public boolean asBoolean() {
+        return value;
+    }
+
+    @Override
+    public char asChar() {
+        return '0';
+    }
+
+    @Override
+    public boolean isFloat() {
+        return false;
+    }
+
+    @Override
+    public boolean isInteger() {
+        return false;
+    }
+}
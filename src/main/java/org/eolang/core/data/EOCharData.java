@@ -0,0 +1,75 @@
+package org.eolang.core.data;
+
+/**
+ * Данные - символ, хранимый без упаковки в {@code Character}.
+ */
+public final class EOCharData extends EOData {
+    /**
+     * Данные
+     */
+    private final char value;
+
+    public EOCharData(char value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    @Override
+    public Character toChar() {
+        return value;
+    }
+
+    @Override
+    public Object toObject() {
+        return Character.valueOf(value);
+    }
+
+    @Override
+    public Long toInt() {
+        return 0L;
+    }
+
+    @Override
+    public Double toFloat() {
+        return 0D;
+    }
+
+    @Override
+    public Boolean toBoolean() {
+        return false;
+    }
+
+    @Override
+    public long asLong() {
+        return 0L;
+    }
+
+    @Override
+    public double asDouble() {
+        return 0D;
+    }
+
+    @Override
+    public boolean asBoolean() {
+        return false;
+    }
+
+    @Override
+    public char asChar() {
+        return value;
+    }
+
+    @Override
+    public boolean isFloat() {
+        return false;
+    }
+
+    @Override
+    public boolean isInteger() {
+        return false;
+    }
+}
@@ -13,6 +13,14 @@ public class EOData {
         this._data = _data;
     }
 
+    /**
+     * Конструктор для наследников, хранящих данные в примитивных полях
+     * (они переопределяют все методы приведения типов).
+     */
+    protected EOData() {
+        this._data = null;
+    }
+
     /**
      * Приведение типа данных к строке
      */
@@ -82,6 +90,42 @@ public class EOData {
         return false;
     }
 
+    /**
+     * Приведение типа данных к целому числу без упаковки
+     *
+     * @return the integer value of the data, otherwise 0
+     */
+    public long asLong() {
+        return toInt();
+    }
+
+    /**
+     * Приведение типа данных к дробному числу без упаковки
+     *
+     * @return the floating-point value of the data, otherwise 0
+     */
+    public double asDouble() {
+        return toFloat();
+    }
+
+    /**
+     * Приведение типа данных к логическому значению без упаковки
+     *
+     * @return the boolean value of the data, otherwise false
+     */
+    public boolean asBoolean() {
+        return toBoolean();
+    }
+
+    /**
+     * Приведение типа данных к символу без упаковки
+     *
+     * @return a character value of the data, otherwise 0
+     */
+    public char asChar() {
+        return toChar();
+    }
+
     public boolean isFloat() {
         return _data.getClass().equals(Float.class) || _data.getClass().equals(Double.class);
     }
@@ -17,7 +17,7 @@ public class EODataObject extends EOObject {
     }
 
     public EODataObject() {
-        this._data = new EONoData();
+        this._data = EONoData.INSTANCE;
     }
 
     public EODataObject(EOData _data) {
@@ -0,0 +1,75 @@
+package org.eolang.core.data;
+
+/**
+ * Данные - дробное число, хранимое без упаковки в {@code Double}.
+ */
+public final class EODoubleData extends EOData {
+    /**
+     * Данные
+     */
+    private final double value;
+
+    public EODoubleData(double value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return Double.toString(value);
+    }
+
+    @Override
+    public Character toChar() {
+        return '0';
+    }
+
+    @Override
+    public Object toObject() {
+        return Double.valueOf(value);
+    }
+
+    @Override
+    public Long toInt() {
+        return 0L;
+    }
+
+    @Override
+    public Double toFloat() {
+        return Double.valueOf(value);
+    }
+
+    @Override
+    public Boolean toBoolean() {
+        return false;
+    }
+
+    @Override
+    public long asLong() {
+        return 0L;
+    }
+
+    @Override
+    public double asDouble() {
+        return value;
+    }
+
+    @Override
+    public boolean asBoolean() {
+        return false;
+    }
+
+    @Override
+    public char asChar() {
+        return '0';
+    }
+
+    @Override
+    public boolean isFloat() {
+        return true;
+    }
+
+    @Override
+    public boolean isInteger() {
+        return false;
+    }
+}
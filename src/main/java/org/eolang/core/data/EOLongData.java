@@ -0,0 +1,75 @@
+package org.eolang.core.data;
+
+/**
+ * Данные - целое число, хранимое без упаковки в {@code Long}.
+ */
+public final class EOLongData extends EOData {
+    /**
+     * Данные
+     */
+    private final long value;
+
+    public EOLongData(long value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(value);
+    }
+
+    @Override
+    public Character toChar() {
+        return '0';
+    }
+
+    @Override
+    public Object toObject() {
+        return Long.valueOf(value);
+    }
+
+    @Override
+    public Long toInt() {
+        return Long.valueOf(value);
+    }
+
+    @Override
+    public Double toFloat() {
+        return 0D;
+    }
+
+    @Override
+    public Boolean toBoolean() {
+        return value != 0L;
+    }
+
+    @Override
+    public long asLong() {
+        return value;
+    }
+
+    @Override
+    public double asDouble() {
+        return 0D;
+    }
+
+    @Override
+    public boolean asBoolean() {
+        return value != 0L;
+    }
+
+    @Override
+    public char asChar() {
+        return '0';
+    }
+
+    @Override
+    public boolean isFloat() {
+        return false;
+    }
+
+    @Override
+    public boolean isInteger() {
+        return true;
+    }
+}
@@ -4,6 +4,11 @@ package org.eolang.core.data;
  * Объект-заглушка, представляющий пустые данные
  */
 public class EONoData extends EOData {
+    /**
+     * Единственный экземпляр пустых данных, используемый рантаймом
+     */
+    public static final EONoData INSTANCE = new EONoData();
+
     public EONoData() {
         super("");
     }
@@ -0,0 +1,90 @@
+package org.eolang.core.data;
+
+/**
+ * Данные - строка, представленная последовательностью символов,
+ * которая превращается в {@code String} только при первом обращении к ней.
+ */
+public final class EOTextData extends EOData {
+    /**
+     * Данные: последовательность символов до первого обращения к ней,
+     * затем созданная из неё строка (сама последовательность больше не удерживается)
+     */
+    private volatile CharSequence text;
+
+    public EOTextData(CharSequence text) {
+        this.text = text;
+    }
+
+    @Override
+    public String toString() {
+        CharSequence chars = text;
+        if (chars instanceof String) {
+            return (String) chars;
+        }
+        String result = chars.toString();
+        text = result;
+        return result;
+    }
+
+    /**
+     * Последовательность символов данных: строка, если она уже создана, иначе исходная последовательность
+     */
+    public CharSequence chars() {
+        return text;
+    }
+
+    @Override
+    public Character toChar() {
+        return '0';
+    }
+
+    @Override
+    public Object toObject() {
+        return toString();
+    }
+
+    @Override
+    public Long toInt() {
+        return 0L;
+    }
+
+    @Override
+    public Double toFloat() {
+        return 0D;
+    }
+
+    @Override
+    public Boolean toBoolean() {
+        return false;
+    }
+
+    @Override
+    public long asLong() {
+        return 0L;
+    }
+
+    @Override
+    public double asDouble() {
+        return 0D;
+    }
+
+    @Override
+    public boolean asBoolean() {
+        return false;
+    }
+
+    @Override
+    public char asChar() {
+        return '0';
+    }
+
+    @Override
+    public boolean isFloat() {
+        return false;
+    }
+
+    @Override
+    public boolean isInteger() {
+        return false;
+    }
+}
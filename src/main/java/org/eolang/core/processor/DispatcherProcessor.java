@@ -0,0 +1,315 @@
+package org.eolang.core.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates attribute dispatchers for EO objects at compile time.
+ * <p>
+ * For every concrete (non-abstract) class that extends {@code org.eolang.core.EOObject} and is accessible
+ * from its package, the processor generates the {@code <Class>$EODispatcher} class next to it.
+ * The dispatcher switches over the names of the EO attributes of the class (i.e., its public methods
+ * with the 'EO' prefix) and calls the methods directly, so the runtime does not resolve the attributes
+ * of the class through the Java Reflection API, and the JIT compiler can inline the calls.
+ * <p>
+ * The processor is registered as a service, so it runs automatically whenever EO objects
+ * (both the standard ones and the ones generated by the transpiler) are compiled against the runtime.
+ * This is intended: it is shipped in the runtime jar, so the transpiled programs get the dispatchers
+ * without any build configuration. Thus, it also runs on any other compilation that has the runtime
+ * on the classpath. There it only scans the compiled classes, generates nothing unless they extend
+ * {@code org.eolang.core.EOObject}, and claims no annotations, so the other processors see all of them.
+ * The processor is turned off with the {@code -proc:none} option of {@code javac}, or by naming
+ * the processors to run with the {@code -processor} option; the classes compiled without it rely on reflection.
+ */
+@SupportedAnnotationTypes("*")
+public final class DispatcherProcessor extends AbstractProcessor {
+
+    /**
+     * The base class of EO objects.
+     */
+    private static final String OBJECT = "org.eolang.core.EOObject";
+
+    /**
+     * The base class of generated dispatchers.
+     */
+    private static final String DISPATCHER = "org.eolang.core.EODispatcher";
+
+    /**
+     * The suffix of the names of generated dispatchers.
+     */
+    private static final String SUFFIX = "$EODispatcher";
+
+    /**
+     * The prefix of the names of EO attributes.
+     */
+    private static final String PREFIX = "EO";
+
+    /**
+     * The maximum number of arguments dispatchers apply attributes to without packing them into an array.
+     */
+    private static final int MAX_FIXED_ARITY = 4;
+
+    /**
+     * Classes which dispatchers have already been generated.
+     */
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement object = processingEnv.getElementUtils().getTypeElement(OBJECT);
+        if (object == null) {
+            return false;
+        }
+        List<TypeElement> types = new ArrayList<>();
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            collect(type, types);
+        }
+        for (TypeElement type : types) {
+            if (isDispatchable(type, object) && generated.add(type.getQualifiedName().toString())) {
+                generate(type);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects {@code type} and all the static classes nested in it.
+     */
+    private static void collect(TypeElement type, List<TypeElement> types) {
+        types.add(type);
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            if (nested.getModifiers().contains(Modifier.STATIC)) {
+                collect(nested, types);
+            }
+        }
+    }
+
+    /**
+     * Determines if a dispatcher can be generated for {@code type}.
+     */
+    private boolean isDispatchable(TypeElement type, TypeElement object) {
+        if (type.getKind() != ElementKind.CLASS
+                || type.getModifiers().contains(Modifier.ABSTRACT)
+                || type.getModifiers().contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        for (Element enclosing = type.getEnclosingElement();
+             enclosing instanceof TypeElement;
+             enclosing = enclosing.getEnclosingElement()) {
+            if (enclosing.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+        }
+        return processingEnv.getTypeUtils().isSubtype(
+                processingEnv.getTypeUtils().erasure(type.asType()),
+                processingEnv.getTypeUtils().erasure(object.asType())
+        );
+    }
+
+    /**
+     * Generates the dispatcher of {@code type}.
+     */
+    private void generate(TypeElement type) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        String binary = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String simple = (pkg.isUnnamed() ? binary : binary.substring(pkg.getQualifiedName().length() + 1)) + SUFFIX;
+        String qualified = pkg.isUnnamed() ? simple : pkg.getQualifiedName() + "." + simple;
+        Map<String, List<ExecutableElement>> attributes = attributes(type);
+        StringBuilder src = new StringBuilder();
+        if (!pkg.isUnnamed()) {
+            src.append("package ").append(pkg.getQualifiedName()).append(";\n\n");
+        }
+        src.append("/**\n")
+                .append(" * The attribute dispatcher of {@link ").append(type.getQualifiedName()).append("}.\n")
+                .append(" * Generated by ").append(getClass().getName()).append(", do not edit.\n")
+                .append(" */\n")
+                .append("@SuppressWarnings(\"all\")\n")
+                .append("public final class ").append(simple).append(" extends ").append(DISPATCHER).append(" {\n");
+        for (int arity = 0; arity <= MAX_FIXED_ARITY; arity++) {
+            src.append("\n    @Override\n    public Object dispatch(").append(OBJECT).append(" receiver, String name");
+            for (int i = 0; i < arity; i++) {
+                src.append(", ").append(OBJECT).append(' ').append(argument(i));
+            }
+            src.append(") {\n");
+            src.append("        ").append(erasure(type.asType())).append(" self = (").append(erasure(type.asType())).append(") receiver;\n");
+            src.append("        switch (name) {\n");
+            for (Map.Entry<String, List<ExecutableElement>> attribute : attributes.entrySet()) {
+                ExecutableElement method = select(attribute.getValue(), arity);
+                if (method == null) {
+                    continue;
+                }
+                src.append("            case \"").append(attribute.getKey()).append("\":\n");
+                call(src, method, arity);
+            }
+            src.append("            default:\n")
+                    .append("                return ABSENT;\n")
+                    .append("        }\n")
+                    .append("    }\n");
+        }
+        src.append("}\n");
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualified, type).openWriter()) {
+            writer.write(src.toString());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    String.format("Can't generate the %s dispatcher: %s", qualified, e.getMessage()),
+                    type
+            );
+        }
+    }
+
+    /**
+     * Collects the EO attributes of {@code type} (including the inherited ones) grouped by their names.
+     * Attributes with parameters of primitive types are skipped, since EO objects can never be passed to them.
+     * The runtime takes the same methods as attributes of the classes without dispatchers
+     * (see {@code org.eolang.core.EOAttributeTable.isAttribute}), keep them in sync.
+     */
+    private Map<String, List<ExecutableElement>> attributes(TypeElement type) {
+        Map<String, List<ExecutableElement>> attributes = new LinkedHashMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            String name = method.getSimpleName().toString();
+            if (!name.startsWith(PREFIX)
+                    || !method.getModifiers().contains(Modifier.PUBLIC)
+                    || method.getModifiers().contains(Modifier.STATIC)
+                    || !hasReferenceParameters(method)) {
+                continue;
+            }
+            attributes.computeIfAbsent(name, key -> new ArrayList<>()).add(method);
+        }
+        return attributes;
+    }
+
+    /**
+     * Determines if all the parameters of {@code method} (and the elements of its varargs array) are references.
+     */
+    private static boolean hasReferenceParameters(ExecutableElement method) {
+        for (VariableElement parameter : method.getParameters()) {
+            TypeMirror type = parameter.asType();
+            if (type.getKind() == TypeKind.ARRAY) {
+                type = ((ArrayType) type).getComponentType();
+            }
+            if (type.getKind().isPrimitive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Selects the method to apply to {@code arity} arguments the same way the runtime does:
+     * methods with exactly {@code arity} parameters are preferred, then varargs methods are tried,
+     * and, finally, methods with fewer parameters are used (the extra arguments are ignored).
+     */
+    private static ExecutableElement select(List<ExecutableElement> overloads, int arity) {
+        ExecutableElement varargs = null;
+        ExecutableElement shorter = null;
+        for (ExecutableElement method : overloads) {
+            if (isVarargs(method)) {
+                if (varargs == null && method.getParameters().size() - 1 <= arity) {
+                    varargs = method;
+                }
+            } else if (method.getParameters().size() == arity) {
+                return method;
+            } else if (shorter == null && method.getParameters().size() < arity) {
+                shorter = method;
+            }
+        }
+        return varargs != null ? varargs : shorter;
+    }
+
+    /**
+     * Determines if the last parameter of {@code method} is an array that receives the rest of the arguments.
+     */
+    private static boolean isVarargs(ExecutableElement method) {
+        List<? extends VariableElement> parameters = method.getParameters();
+        return !parameters.isEmpty() && parameters.get(parameters.size() - 1).asType().getKind() == TypeKind.ARRAY;
+    }
+
+    /**
+     * Appends the call of {@code method} with {@code arity} arguments.
+     */
+    private void call(StringBuilder src, ExecutableElement method, int arity) {
+        List<? extends VariableElement> parameters = method.getParameters();
+        int fixed = isVarargs(method) ? parameters.size() - 1 : parameters.size();
+        StringBuilder args = new StringBuilder();
+        for (int i = 0; i < fixed; i++) {
+            if (i > 0) {
+                args.append(", ");
+            }
+            args.append(cast(parameters.get(i).asType(), argument(i)));
+        }
+        if (isVarargs(method)) {
+            TypeMirror component = ((ArrayType) parameters.get(fixed).asType()).getComponentType();
+            if (fixed > 0) {
+                args.append(", ");
+            }
+            args.append("new ").append(erasure(component)).append("[] {");
+            for (int i = fixed; i < arity; i++) {
+                if (i > fixed) {
+                    args.append(", ");
+                }
+                args.append(cast(component, argument(i)));
+            }
+            args.append('}');
+        }
+        String invocation = "self." + method.getSimpleName() + "(" + args + ")";
+        if (method.getReturnType().getKind() == TypeKind.VOID) {
+            src.append("                ").append(invocation).append(";\n");
+            src.append("                return null;\n");
+        } else {
+            src.append("                return ").append(invocation).append(";\n");
+        }
+    }
+
+    /**
+     * Casts the argument to the {@code type} of the parameter unless the parameter receives any EO object.
+     */
+    private String cast(TypeMirror type, String argument) {
+        String erasure = erasure(type);
+        if (OBJECT.equals(erasure)) {
+            return argument;
+        }
+        return "(" + erasure + ") " + argument;
+    }
+
+    /**
+     * Provides the erasure of {@code type} in the form it can be used in the source code.
+     */
+    private String erasure(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    /**
+     * Provides the name of the parameter that receives the {@code index}-th argument.
+     */
+    private static String argument(int index) {
+        return String.valueOf((char) ('a' + index));
+    }
+}
@@ -0,0 +1,177 @@
+package org.eolang.io;
+
+import java.io.PrintStream;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes the chunks of the buffered standard output in a dedicated thread,
+ * so the threads dataizing the program do not wait for a slow terminal or pipe.
+ * <p>
+ * The chunks are passed to the writer thread through a bounded lock-free ring buffer and written in the order
+ * they are offered. When the ring is full, the offering thread either waits for a free slot ({@code block})
+ * or the chunk is discarded ({@code drop}).
+ * A chunk is the whole text passed by the buffer of the output at once (up to {@code eo.stdout.buffer} characters,
+ * or a single longer printed text), so dropping discards the whole chunk, never a part of it.
+ * The number of the discarded chunks is reported to the standard error when the output is flushed
+ * (in particular, when the program exits).
+ * <p>
+ * The chunks are offered by one thread at a time (the ones holding the lock of the buffer of the output),
+ * so the ring has a single producer and a single consumer.
+ */
+final class EOAsyncSink {
+
+    /**
+     * How long the waiting threads park between the checks of the progress of the writer thread.
+     */
+    private static final long PAUSE = 50_000L;
+
+    private final PrintStream target;
+
+    /**
+     * The stream the discarded chunks are reported to.
+     */
+    private final PrintStream errors;
+
+    private final boolean drop;
+
+    /**
+     * The slots of the ring, a chunk is at the index of its number modulo the length of the ring.
+     */
+    private final String[] ring;
+
+    /**
+     * The number of the chunks taken from the ring by the writer thread.
+     */
+    private volatile long head;
+
+    /**
+     * The number of the chunks put to the ring.
+     */
+    private volatile long tail;
+
+    /**
+     * The number of the chunks written to the target.
+     */
+    private volatile long written;
+
+    /**
+     * The number of the chunks discarded because the ring was full.
+     */
+    private volatile long dropped;
+
+    /**
+     * The number of the discarded chunks reported so far.
+     */
+    private long reported;
+
+    /**
+     * Whether the writer thread is parked or is about to park.
+     */
+    private volatile boolean idle;
+
+    private final Thread writer;
+
+    /**
+     * @param target the stream the chunks are written to
+     * @param capacity the maximum number of the chunks waiting to be written
+     * @param policy what happens with a chunk when the ring is full: {@code block} or {@code drop}
+     */
+    EOAsyncSink(PrintStream target, int capacity, String policy) {
+        this(target, capacity, policy, System.err);
+    }
+
+    /**
+     * @param target the stream the chunks are written to
+     * @param capacity the maximum number of the chunks waiting to be written
+     * @param policy what happens with a chunk when the ring is full: {@code block} or {@code drop}
+     * @param errors the stream the discarded chunks are reported to
+     */
+    EOAsyncSink(PrintStream target, int capacity, String policy, PrintStream errors) {
+        if (!"block".equals(policy) && !"drop".equals(policy)) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Unknown overflow policy of the standard output: %s. The policy must be one of: block, drop.",
+                            policy
+                    )
+            );
+        }
+        this.target = target;
+        this.errors = errors;
+        this.drop = "drop".equals(policy);
+        this.ring = new String[capacity];
+        this.writer = new Thread(this::write, "eo-stdout-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Passes {@code chunk} to the writer thread.
+     * The method must not be called by more than one thread at a time.
+     */
+    void offer(String chunk) {
+        long next = tail;
+        while (next - head >= ring.length) {
+            if (drop) {
+                dropped++;
+                return;
+            }
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(this, PAUSE);
+        }
+        ring[(int) (next % ring.length)] = chunk;
+        // the volatile write publishes the chunk to the writer thread
+        tail = next + 1;
+        if (idle) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Waits until all the offered chunks are written to the target, and flushes it.
+     * The chunks discarded since the previous call are reported to the standard error.
+     * The method must not be called by more than one thread at a time.
+     */
+    void drain() {
+        long offered = tail;
+        while (written < offered) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(this, PAUSE);
+        }
+        target.flush();
+        long discarded = dropped;
+        if (discarded > reported) {
+            errors.printf(
+                    "%d chunk(s) of the standard output were dropped, since %d chunk(s) were waiting to be written (see eo.stdout.full).%n",
+                    discarded - reported,
+                    ring.length
+            );
+            errors.flush();
+            reported = discarded;
+        }
+    }
+
+    /**
+     * Writes the chunks from the ring until the JVM exits.
+     */
+    private void write() {
+        while (true) {
+            long next = head;
+            if (next == tail) {
+                target.flush();
+                idle = true;
+                // the chunk offered right before the flag is set is noticed here
+                if (next == tail) {
+                    LockSupport.park(this);
+                }
+                idle = false;
+                continue;
+            }
+            int slot = (int) (next % ring.length);
+            String chunk = ring[slot];
+            ring[slot] = null;
+            head = next + 1;
+            target.print(chunk);
+            written = written + 1;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package org.eolang.io;
+
+import java.io.PrintStream;
+
+/**
+ * The standard output shared by {@link EOstdout} and the runtime launcher.
+ * <p>
+ * By default the text is written to {@link System#out} right away. Once {@link #buffer()} is called
+ * (the launcher does it), the text is collected in a large buffer and written to the standard output in chunks,
+ * so printing many short values costs a few writes instead of one synchronized write per value.
+ * The buffer is flushed according to the policy set by the {@code eo.stdout.flush} system property:
+ * <ul>
+ *     <li>{@code size} (the default) flushes when the buffer is full;</li>
+ *     <li>{@code line} flushes at the end of every printed text containing a line break;</li>
+ *     <li>{@code time} flushes periodically, every {@code eo.stdout.interval} milliseconds (100 by default).</li>
+ * </ul>
+ * Whatever the policy is, the buffer is flushed when it holds {@code eo.stdout.buffer} characters
+ * (65536 by default) and when the JVM exits.
+ * <p>
+ * If the {@code eo.stdout.async} system property is {@code true}, the flushed text is written
+ * by a dedicated thread (see {@link EOAsyncSink}), which takes up to {@code eo.stdout.queue} chunks
+ * (1024 by default) and either blocks or drops the printed text when they are more,
+ * as the {@code eo.stdout.full} system property ({@code block} or {@code drop}, {@code block} by default) sets.
+ * Flushing the output waits until the writer thread writes all the text, so the text is written in order
+ * and nothing but the dropped text is lost when the program exits.
+ * The text is dropped in whole chunks, and the number of the dropped chunks is reported to the standard error
+ * when the output is flushed.
+ * If {@link System#out} is replaced after the buffer is set up, the text is written to the new stream right away.
+ */
+public final class EOOutput {
+
+    /**
+     * The buffered output, or {@code null} if the text is written right away.
+     */
+    private static volatile Sink sink;
+
+    private EOOutput() {
+    }
+
+    /**
+     * Prints {@code text} to the standard output.
+     */
+    public static void print(String text) {
+        Sink current = sink;
+        if (current != null && current.target == System.out) {
+            current.print(text);
+        } else {
+            if (current != null) {
+                current.flush();
+            }
+            System.out.print(text);
+        }
+    }
+
+    /**
+     * Writes the buffered text to the standard output.
+     */
+    public static void flush() {
+        Sink current = sink;
+        if (current != null) {
+            current.flush();
+        }
+    }
+
+    /**
+     * Starts buffering the text printed to the current {@link System#out}.
+     * The buffer is flushed when the JVM exits, so nothing printed is lost.
+     */
+    public static synchronized void buffer() {
+        if (sink != null) {
+            return;
+        }
+        EOAsyncSink async = null;
+        if (Boolean.getBoolean("eo.stdout.async")) {
+            async = new EOAsyncSink(
+                    System.out,
+                    Math.max(1, Integer.getInteger("eo.stdout.queue", 1024)),
+                    System.getProperty("eo.stdout.full", "block")
+            );
+        }
+        Sink created = new Sink(
+                System.out,
+                System.getProperty("eo.stdout.flush", "size"),
+                Math.max(1, Integer.getInteger("eo.stdout.buffer", 65536)),
+                Math.max(1L, Long.getLong("eo.stdout.interval", 100L)),
+                async
+        );
+        Runtime.getRuntime().addShutdownHook(new Thread(created::flush, "eo-stdout-exit"));
+        sink = created;
+    }
+
+    /**
+     * The buffer of the text printed to a stream.
+     */
+    static final class Sink {
+
+        private final PrintStream target;
+
+        private final boolean lines;
+
+        private final int capacity;
+
+        private final StringBuilder buffer;
+
+        /**
+         * The writer thread of the text, or {@code null} if the text is written by the flushing thread.
+         */
+        private final EOAsyncSink async;
+
+        Sink(PrintStream target, String policy, int capacity, long interval) {
+            this(target, policy, capacity, interval, null);
+        }
+
+        Sink(PrintStream target, String policy, int capacity, long interval, EOAsyncSink async) {
+            if (!"size".equals(policy) && !"line".equals(policy) && !"time".equals(policy)) {
+                throw new IllegalArgumentException(
+                        String.format(
+                                "Unknown flush policy of the standard output: %s. The policy must be one of: size, line, time.",
+                                policy
+                        )
+                );
+            }
+            this.target = target;
+            this.lines = "line".equals(policy);
+            this.capacity = capacity;
+            this.buffer = new StringBuilder(Math.min(capacity, 8192));
+            this.async = async;
+            if ("time".equals(policy)) {
+                Thread flusher = new Thread(
+                        () -> {
+                            while (true) {
+                                try {
+                                    Thread.sleep(interval);
+                                } catch (InterruptedException e) {
+                                    return;
+                                }
+                                pass();
+                            }
+                        },
+                        "eo-stdout-flush"
+                );
+                flusher.setDaemon(true);
+                flusher.start();
+            }
+        }
+
+        synchronized void print(String text) {
+            if (buffer.length() + text.length() > capacity) {
+                pass();
+            }
+            if (text.length() >= capacity) {
+                // the text would fill the buffer on its own, so it is not copied
+                write(text);
+                return;
+            }
+            buffer.append(text);
+            if (lines && text.indexOf('\n') >= 0) {
+                pass();
+            }
+        }
+
+        /**
+         * Writes the buffered text out and waits until it reaches the target.
+         */
+        synchronized void flush() {
+            pass();
+            if (async != null) {
+                async.drain();
+            }
+        }
+
+        /**
+         * Passes the buffered text to the target, or to the writer thread if there is one.
+         */
+        synchronized void pass() {
+            if (buffer.length() > 0) {
+                write(buffer.toString());
+                buffer.setLength(0);
+            }
+            if (async == null) {
+                target.flush();
+            }
+        }
+
+        private void write(String text) {
+            if (async == null) {
+                target.print(text);
+            } else {
+                async.offer(text);
+            }
+        }
+    }
+}
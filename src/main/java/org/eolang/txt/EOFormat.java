@@ -0,0 +1,228 @@
+package org.eolang.txt;
+
+import org.eolang.core.data.EOData;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A compiled format string of {@link EOsprintf}.
+ * <p>
+ * The format is parsed once into the literal parts and the conversions between them.
+ * The {@code %d}, {@code %s} and {@code %f} conversions without flags, width and precision
+ * (and the {@code %%} and {@code %n} ones) are formatted here, reading the primitive data directly,
+ * and the result is the same as the one of {@link String#format(String, Object...)}.
+ * The formats with other conversions, and the arguments that do not fit their conversions,
+ * are formatted by {@link String#format(String, Object...)}.
+ * <p>
+ * The most recently used formats are kept compiled (their number is set by the {@code eo.format.cache}
+ * system property, 256 by default).
+ */
+final class EOFormat {
+
+    /**
+     * The maximum number of the compiled formats kept.
+     */
+    private static final int SIZE = Math.max(0, Integer.getInteger("eo.format.cache", 256));
+
+    /**
+     * The compiled formats by their format strings, the least recently used ones go first.
+     */
+    private static final Map<String, EOFormat> CACHE = new LinkedHashMap<String, EOFormat>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, EOFormat> eldest) {
+            return size() > SIZE;
+        }
+    };
+
+    /**
+     * The symbols of the locale the numbers were formatted in last time.
+     */
+    private static volatile Symbols symbols = new Symbols(Locale.ROOT);
+
+    private final String format;
+
+    /**
+     * The literal parts of the format, there is one more of them than there are conversions,
+     * or {@code null} if the format is formatted by {@link String#format(String, Object...)}.
+     */
+    private final String[] literals;
+
+    /**
+     * The conversions between the literal parts.
+     */
+    private final char[] conversions;
+
+    private EOFormat(String format, String[] literals, char[] conversions) {
+        this.format = format;
+        this.literals = literals;
+        this.conversions = conversions;
+    }
+
+    /**
+     * Provides the compiled {@code format}.
+     */
+    static EOFormat of(String format) {
+        synchronized (CACHE) {
+            EOFormat compiled = CACHE.get(format);
+            if (compiled != null) {
+                return compiled;
+            }
+        }
+        EOFormat compiled = compile(format);
+        synchronized (CACHE) {
+            CACHE.put(format, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Parses {@code format} into the literal parts and the conversions.
+     */
+    private static EOFormat compile(String format) {
+        List<String> literals = new ArrayList<>();
+        StringBuilder conversions = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < format.length()) {
+            char c = format.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                i++;
+                continue;
+            }
+            char conversion = i + 1 < format.length() ? format.charAt(i + 1) : 0;
+            if (conversion == '%') {
+                literal.append('%');
+            } else if (conversion == 'n') {
+                literal.append(System.lineSeparator());
+            } else if (conversion == 'd' || conversion == 's' || conversion == 'f') {
+                literals.add(literal.toString());
+                literal.setLength(0);
+                conversions.append(conversion);
+            } else {
+                return new EOFormat(format, null, null);
+            }
+            i += 2;
+        }
+        literals.add(literal.toString());
+        return new EOFormat(format, literals.toArray(new String[0]), conversions.toString().toCharArray());
+    }
+
+    /**
+     * Formats {@code args} (the data of the arguments) the way {@link String#format(String, Object...)} does.
+     */
+    String apply(EOData... args) {
+        if (literals == null || args.length < conversions.length) {
+            return fallback(args);
+        }
+        Symbols current = symbols(Locale.getDefault(Locale.Category.FORMAT));
+        if (current.zero != '0') {
+            return fallback(args);
+        }
+        StringBuilder builder = new StringBuilder(format.length() + 16 * conversions.length);
+        builder.append(literals[0]);
+        for (int i = 0; i < conversions.length; i++) {
+            EOData arg = args[i];
+            switch (conversions[i]) {
+                case 'd':
+                    if (!arg.isInteger()) {
+                        return fallback(args);
+                    }
+                    builder.append(arg.asLong());
+                    break;
+                case 'f':
+                    if (!arg.isFloat()) {
+                        return fallback(args);
+                    }
+                    appendFloat(builder, arg.asDouble(), current.separator);
+                    break;
+                default:
+                    if (arg.isInteger()) {
+                        builder.append(arg.asLong());
+                    } else {
+                        Object value = arg.toObject();
+                        if (value instanceof Formattable) {
+                            return fallback(args);
+                        }
+                        builder.append(value);
+                    }
+                    break;
+            }
+            builder.append(literals[i + 1]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Appends {@code value} the way the {@code %f} conversion does: rounded half up to six digits
+     * after {@code separator}.
+     */
+    private static void appendFloat(StringBuilder builder, double value, char separator) {
+        if (Double.isNaN(value)) {
+            builder.append("NaN");
+            return;
+        }
+        // the sign of -0.0 is kept, as Double.compare(-0.0, 0.0) is negative
+        if (Double.compare(value, 0.0) < 0) {
+            builder.append('-');
+        }
+        double magnitude = Math.abs(value);
+        if (Double.isInfinite(magnitude)) {
+            builder.append("Infinity");
+            return;
+        }
+        // the shortest decimal representation of the value is rounded, the same way Formatter does
+        String digits = new BigDecimal(Double.toString(magnitude)).setScale(6, RoundingMode.HALF_UP).toPlainString();
+        int point = digits.indexOf('.');
+        builder.append(digits, 0, point).append(separator).append(digits, point + 1, digits.length());
+    }
+
+    private String fallback(EOData... args) {
+        Object[] objects = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            objects[i] = args[i].toObject();
+        }
+        return String.format(format, objects);
+    }
+
+    /**
+     * Provides the symbols of {@code locale}, creating them only when the locale changes.
+     */
+    private static Symbols symbols(Locale locale) {
+        Symbols result = symbols;
+        if (!result.locale.equals(locale)) {
+            result = new Symbols(locale);
+            symbols = result;
+        }
+        return result;
+    }
+
+    /**
+     * The symbols of a locale used to format numbers.
+     */
+    private static final class Symbols {
+
+        private final Locale locale;
+
+        private final char zero;
+
+        private final char separator;
+
+        private Symbols(Locale locale) {
+            DecimalFormatSymbols dfs = DecimalFormatSymbols.getInstance(locale);
+            this.locale = locale;
+            this.zero = dfs.getZeroDigit();
+            this.separator = dfs.getDecimalSeparator();
+        }
+    }
+}
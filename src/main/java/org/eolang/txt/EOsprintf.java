@@ -22,13 +22,11 @@ public class EOsprintf extends EOObject {
     @Override
     public EOData _getData() {
         String sFormat = format._getData().toString();
-        Object[] objects = Arrays.stream(data).map(obj -> obj._getData().toObject()).toArray();
-        return new EOData(
-                String.format(
-                        sFormat,
-                        objects
-                )
-        );
+        EOData[] values = new EOData[data.length];
+        for (int i = 0; i < data.length; i++) {
+            values[i] = data[i]._getData();
+        }
+        return new EOData(EOFormat.of(sFormat).apply(values));
     }
 
     /**
@@ -0,0 +1,91 @@
+package org.eolang;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test cases for {@link EORope}.
+ */
+class EORopeTest {
+
+    /**
+     * Checks that random concatenations and parts of ropes produce the same text as the ones of plain strings.
+     */
+    @Test
+    void operationsMatchPlainStrings() {
+        Random random = new Random(42);
+        String expected = "";
+        EORope actual = EORope.EMPTY;
+        for (int step = 0; step < 5_000; step++) {
+            int operation = random.nextInt(10);
+            if (expected.length() < 2 || operation < 7) {
+                String piece = Integer.toString(step, 36);
+                if (random.nextBoolean()) {
+                    expected = expected + piece;
+                    actual = actual.concat(EORope.of(piece));
+                } else {
+                    expected = piece + expected;
+                    actual = EORope.of(piece).concat(actual);
+                }
+            } else if (operation < 9) {
+                int start = random.nextInt(expected.length());
+                int end = start + random.nextInt(expected.length() - start + 1);
+                MatcherAssert.assertThat(actual.subSequence(start, end).toString(), Matchers.equalTo(expected.substring(start, end)));
+            } else {
+                int index = random.nextInt(expected.length());
+                MatcherAssert.assertThat(actual.charAt(index), Matchers.equalTo(expected.charAt(index)));
+            }
+            MatcherAssert.assertThat(actual.length(), Matchers.equalTo(expected.length()));
+        }
+        MatcherAssert.assertThat(actual.toString(), Matchers.equalTo(expected));
+    }
+
+    /**
+     * Checks that the rope stays balanced after many appends of short strings.
+     */
+    @Test
+    void appendsKeepRopeBalanced() {
+        EORope rope = EORope.EMPTY;
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            String piece = Integer.toString(i);
+            rope = rope.concat(EORope.of(piece)).concat(EORope.of(" "));
+            expected.append(piece).append(' ');
+        }
+        MatcherAssert.assertThat(rope.toString(), Matchers.equalTo(expected.toString()));
+        MatcherAssert.assertThat(rope.height(), Matchers.lessThanOrEqualTo(20));
+    }
+
+    /**
+     * Checks that the parts of a rope joined together make the rope again.
+     */
+    @Test
+    void partsMakeWholeRope() {
+        EORope rope = EORope.EMPTY;
+        for (int i = 0; i < 2_000; i++) {
+            rope = rope.concat(EORope.of(Integer.toString(i)));
+        }
+        String text = rope.toString();
+        for (int middle = 0; middle <= text.length(); middle += 97) {
+            EORope joined = rope.subSequence(0, middle).concat(rope.subSequence(middle, text.length()));
+            MatcherAssert.assertThat(joined.toString(), Matchers.equalTo(text));
+        }
+    }
+
+    /**
+     * Checks that the positions out of the rope are rejected.
+     */
+    @Test
+    void rejectsPositionsOutOfBounds() {
+        EORope rope = EORope.of("left").concat(EORope.of("right"));
+        assertThrows(IndexOutOfBoundsException.class, () -> rope.subSequence(-1, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> rope.subSequence(3, 10));
+        assertThrows(IndexOutOfBoundsException.class, () -> rope.subSequence(5, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> rope.charAt(9));
+    }
+}
@@ -0,0 +1,114 @@
+package org.eolang;
+
+import org.eolang.core.EOObject;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Test cases for {@link EOVector}.
+ */
+class EOVectorTest {
+
+    /**
+     * Provides a list of ints from {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    private static List<EOObject> range(int from, int to) {
+        List<EOObject> result = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            result.add(new EOint(i));
+        }
+        return result;
+    }
+
+    /**
+     * Checks that the balanced tree built from a list contains the same elements.
+     */
+    @Test
+    void ofKeepsElements() {
+        for (int size : new int[] {0, 1, 31, 32, 33, 1024, 1025, 40_000}) {
+            List<EOObject> expected = range(0, size);
+            MatcherAssert.assertThat(EOVector.of(expected), Matchers.equalTo(expected));
+        }
+    }
+
+    /**
+     * Checks that random modifications of the persistent list produce the same elements as the ones of a plain list,
+     * and that the modifications do not change the original lists.
+     */
+    @Test
+    void modificationsMatchPlainList() {
+        Random random = new Random(42);
+        List<EOObject> expected = new ArrayList<>();
+        EOVector actual = EOVector.of(expected);
+        for (int step = 0; step < 20_000; step++) {
+            EOVector previous = actual;
+            int previousSize = expected.size();
+            int operation = random.nextInt(10);
+            if (expected.isEmpty() || operation < 4) {
+                EOObject element = new EOint(step);
+                expected.add(element);
+                actual = actual.appended(element);
+            } else if (operation < 6) {
+                int index = random.nextInt(expected.size() + 1);
+                EOObject element = new EOint(step);
+                expected.add(index, element);
+                actual = actual.inserted(index, element);
+            } else if (operation < 8) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.removed(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                EOObject element = new EOint(-step);
+                expected.set(index, element);
+                actual = actual.replaced(index, element);
+            }
+            MatcherAssert.assertThat(previous.size(), Matchers.equalTo(previousSize));
+            MatcherAssert.assertThat(actual.size(), Matchers.equalTo(expected.size()));
+        }
+        MatcherAssert.assertThat(actual, Matchers.equalTo(expected));
+    }
+
+    /**
+     * Checks that lists of various sizes are concatenated in the right order.
+     */
+    @Test
+    void concatJoinsListsOfDifferentHeights() {
+        int[] sizes = {0, 1, 20, 33, 700, 1100, 35_000};
+        for (int left : sizes) {
+            for (int right : sizes) {
+                List<EOObject> expected = range(0, left + right);
+                EOVector joined = EOVector.of(range(0, left)).concat(EOVector.of(range(left, left + right)));
+                MatcherAssert.assertThat(joined, Matchers.equalTo(expected));
+            }
+        }
+    }
+
+    /**
+     * Checks that the list built by many concatenations of random pieces keeps working on modifications.
+     */
+    @Test
+    void concatKeepsTreeBalanced() {
+        Random random = new Random(7);
+        EOVector actual = EOVector.of(new ArrayList<>());
+        int size = 0;
+        for (int piece = 0; piece < 2_000; piece++) {
+            int length = random.nextInt(100);
+            actual = actual.concat(EOVector.of(range(size, size + length)));
+            size += length;
+        }
+        List<EOObject> expected = range(0, size);
+        MatcherAssert.assertThat(actual, Matchers.equalTo(expected));
+        while (!expected.isEmpty()) {
+            int index = random.nextInt(expected.size());
+            expected.remove(index);
+            actual = actual.removed(index);
+        }
+        MatcherAssert.assertThat(actual.isEmpty(), Matchers.equalTo(true));
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
 import static org.hamcrest.CoreMatchers.is;
@@ -245,6 +246,69 @@ class EOarrayTest {
         );
     }
 
+    /**
+     * Checks that {@code EOparFind} finds the first suitable element of large arrays just like {@code EOfind},
+     * and that {@code EOparFindAny} finds a suitable one.
+     */
+    @Test
+    void EOparFindFindsFirstSuitableElement() {
+        EOObject[] elements = new EOObject[10_000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = new EOint(i % 1_000 == 999 ? -1 : i);
+        }
+        EOarray inputArray = new EOarray(elements);
+        EOObject negative = new EOObject() {
+            public EOObject EOvalidator(EOint element) {
+                return new EOObject() {
+                    @Override
+                    protected EOObject _decoratee() {
+                        return element.EOless(new EOint(0));
+                    }
+                };
+            }
+        };
+        for (long from : new long[] {0, 999, 1_000, 9_999, 10_000, 10_001, -1}) {
+            MatcherAssert.assertThat(
+                    inputArray.EOparFind(new EOint(from), negative),
+                    is(inputArray.EOfind(new EOint(from), negative))
+            );
+        }
+        MatcherAssert.assertThat(
+                inputArray.EOparFindAny(new EOint(0), negative)._getData().toInt() % 1_000,
+                is(999L)
+        );
+        MatcherAssert.assertThat(inputArray.EOparFindAny(new EOint(10_000), negative), is(new EOint(-1)));
+    }
+
+    /**
+     * Checks that {@code EOparFind} evaluates to -1 when the validation fails before the first suitable element.
+     */
+    @Test
+    void EOparFindFailsLikeFind() {
+        EOObject[] elements = new EOObject[5_000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = new EOint(i);
+        }
+        EOarray inputArray = new EOarray(elements);
+        EOObject validator = new EOObject() {
+            public EOObject EOvalidator(EOint element) {
+                if (element._getData().toInt() == 1_500) {
+                    throw new IllegalStateException("The validation fails");
+                }
+                return new EOObject() {
+                    @Override
+                    protected EOObject _decoratee() {
+                        return element.EOeq(new EOint(3_000)).EOor(element.EOeq(new EOint(1_000)));
+                    }
+                };
+            }
+        };
+        MatcherAssert.assertThat(inputArray.EOparFind(new EOint(0), validator), is(new EOint(1_000)));
+        MatcherAssert.assertThat(inputArray.EOparFind(new EOint(1_001), validator), is(new EOint(-1)));
+        MatcherAssert.assertThat(inputArray.EOfind(new EOint(1_001), validator), is(new EOint(-1)));
+        MatcherAssert.assertThat(inputArray.EOparFind(new EOint(1_501), validator), is(new EOint(3_000)));
+    }
+
     /**
      * Checks that {@code EOget} fails when working with empty arrays.
      */
@@ -315,6 +379,88 @@ class EOarrayTest {
         MatcherAssert.assertThat(result, is(expectedResult));
     }
 
+    /**
+     * Checks that {@code EOindexOf} and {@code EOcontains} find elements by their data.
+     */
+    @Test
+    void EOindexOfFindsFirstEqualElement() {
+        EOarray inputArray = new EOarray(
+                new EOstring("a"),
+                new EOint(2),
+                new EOstring("b"),
+                new EOint(2),
+                new EOfloat(2.0)
+        );
+        MatcherAssert.assertThat(inputArray.EOindexOf(new EOint(2)), is(new EOint(1)));
+        MatcherAssert.assertThat(inputArray.EOindexOf(new EOstring("b")), is(new EOint(2)));
+        MatcherAssert.assertThat(inputArray.EOindexOf(new EOfloat(2.0)), is(new EOint(4)));
+        MatcherAssert.assertThat(inputArray.EOindexOf(new EOstring("c")), is(new EOint(-1)));
+        MatcherAssert.assertThat(inputArray.EOcontains(new EOstring("a"))._getData().toBoolean(), is(true));
+        MatcherAssert.assertThat(inputArray.EOcontains(new EOint(3))._getData().toBoolean(), is(false));
+        MatcherAssert.assertThat(new EOarray().EOcontains(new EOint(3))._getData().toBoolean(), is(false));
+    }
+
+    /**
+     * Checks that {@code EOindexOf} and {@code EOcontains} dataize the elements anew on every search
+     * if the data of the elements may change (so the search agrees with a linear scan).
+     */
+    @Test
+    void EOindexOfDataizesChangingElementsAgain() {
+        AtomicInteger counter = new AtomicInteger();
+        EOObject changing = new EOObject() {
+            @Override
+            protected EOObject _decoratee() {
+                return EOint.of(counter.incrementAndGet());
+            }
+        };
+        EOarray inputArray = new EOarray(new EOstring("a"), changing);
+        MatcherAssert.assertThat(inputArray.EOindexOf(new EOint(1)), is(new EOint(1)));
+        MatcherAssert.assertThat(inputArray.EOindexOf(new EOint(2)), is(new EOint(1)));
+        MatcherAssert.assertThat(inputArray.EOcontains(new EOint(2))._getData().toBoolean(), is(false));
+        MatcherAssert.assertThat(inputArray.EOindexOf(new EOstring("a")), is(new EOint(0)));
+        MatcherAssert.assertThat(inputArray.EOdistinct().EOlength()._getData().toInt(), is(2L));
+    }
+
+    /**
+     * Checks that {@code EOdistinct} keeps the first of the elements with equal data.
+     */
+    @Test
+    void EOdistinctRemovesDuplicates() {
+        MatcherAssert.assertThat(
+                new EOarray(new EOint(3), new EOint(1), new EOint(3), new EOint(2), new EOint(1)).EOdistinct(),
+                is(new EOarray(new EOint(3), new EOint(1), new EOint(2)))
+        );
+        MatcherAssert.assertThat(new EOarray().EOdistinct(), is(new EOarray()));
+    }
+
+    /**
+     * Checks that {@code EOgroupBy} groups the elements by their keys in the order of their first occurrences.
+     */
+    @Test
+    void EOgroupByGroupsElementsByKeys() {
+        EOObject parity = new EOObject() {
+            public EOObject EOgroupBy(EOint element) {
+                return new EOObject() {
+                    @Override
+                    protected EOObject _decoratee() {
+                        return element.EOmod(new EOint(2));
+                    }
+                };
+            }
+        };
+        EOarray inputArray = new EOarray(new EOint(1), new EOint(2), new EOint(3), new EOint(4), new EOint(5));
+        MatcherAssert.assertThat(
+                inputArray.EOgroupBy(parity),
+                is(
+                        new EOarray(
+                                new EOtuple(new EOint(1), new EOarray(new EOint(1), new EOint(3), new EOint(5))),
+                                new EOtuple(new EOint(0), new EOarray(new EOint(2), new EOint(4)))
+                        )
+                )
+        );
+        MatcherAssert.assertThat(new EOarray().EOgroupBy(parity), is(new EOarray()));
+    }
+
     /**
      * Checks that {@code EOinsert} inserts objects in proper positions.
      * TODO factor tests
@@ -541,6 +687,44 @@ class EOarrayTest {
         MatcherAssert.assertThat(resultArray.EOisEmpty()._getData().toBoolean(), is(true));
     }
 
+    /**
+     * Checks that {@code EOparMap} and {@code EOparMapi} keep the order of the elements of large arrays.
+     */
+    @Test
+    void EOparMapKeepsOrder() {
+        EOObject[] elements = new EOObject[10_000];
+        EOObject[] squares = new EOObject[elements.length];
+        EOObject[] sums = new EOObject[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = new EOint(i - 5_000);
+            squares[i] = new EOint((i - 5_000L) * (i - 5_000L));
+            sums[i] = new EOint(2L * i - 5_000L);
+        }
+        EOObject mapperObject = new EOObject() {
+            public EOObject EOmap(EOint element) {
+                return new EOObject() {
+                    @Override
+                    protected EOObject _decoratee() {
+                        return element.EOmul(element);
+                    }
+                };
+            }
+
+            public EOObject EOmapi(EOint element, EOint index) {
+                return new EOObject() {
+                    @Override
+                    protected EOObject _decoratee() {
+                        return element.EOadd(index);
+                    }
+                };
+            }
+        };
+        EOarray inputArray = new EOarray(elements);
+        MatcherAssert.assertThat(inputArray.EOparMap(mapperObject), is(new EOarray(squares)));
+        MatcherAssert.assertThat(inputArray.EOparMapi(mapperObject), is(new EOarray(sums)));
+        MatcherAssert.assertThat(new EOarray().EOparMap(mapperObject), is(new EOarray()));
+    }
+
     /**
      * Checks that {@code EOmin} evaluates to -1 when all elements are equal.
      */
@@ -633,6 +817,216 @@ class EOarrayTest {
         MatcherAssert.assertThat(foundMinIndex, is(expectedIndex));
     }
 
+    /**
+     * Checks that {@code EOmin} without a comparator finds the first minimum of packed and mixed arrays of numbers.
+     */
+    @Test
+    void EOminWithoutComparator() {
+        MatcherAssert.assertThat(
+                new EOarray(new EOint(3), new EOint(-7), new EOint(5), new EOint(-7)).EOmin(),
+                is(new EOint(1))
+        );
+        MatcherAssert.assertThat(
+                new EOarray(new EOfloat(0.5), new EOfloat(0.25), new EOfloat(1.0)).EOmin(),
+                is(new EOint(1))
+        );
+        MatcherAssert.assertThat(
+                new EOarray(new EOint(2), new EOfloat(1.5), new EOint(1)).EOmin(),
+                is(new EOint(2))
+        );
+        MatcherAssert.assertThat(
+                new EOarray(new EOint(4), new EOint(4)).EOmin(),
+                is(new EOint(-1))
+        );
+        MatcherAssert.assertThat(new EOarray().EOmin(), is(new EOint(-1)));
+    }
+
+    /**
+     * Checks that arrays of numbers behave the same whether their values are packed or not.
+     */
+    @Test
+    void packedArraysBehaveAsArraysOfObjects() {
+        EOarray packed = new EOarray(new EOfloat(1.5), new EOfloat(-2.0), new EOfloat(3.25));
+        EOarray unpacked = new EOarray(new EOfloat(1.5), new EOfloat(-2.0), new EOint(3)).EOreplace(
+                new EOint(2), new EOfloat(3.25)
+        );
+        for (int i = 0; i < 3; i++) {
+            MatcherAssert.assertThat(
+                    packed.EOget(new EOint(i))._getData().toFloat(),
+                    is(unpacked.EOget(new EOint(i))._getData().toFloat())
+            );
+            MatcherAssert.assertThat(
+                    packed.EOreverse().EOget(new EOint(i))._getData().toFloat(),
+                    is(unpacked.EOreverse().EOget(new EOint(i))._getData().toFloat())
+            );
+        }
+        MatcherAssert.assertThat(packed.EOget(new EOint(1))._getData().toFloat(), is(-2.0));
+        MatcherAssert.assertThat(packed._getData().toFloat(), is(3.25));
+        MatcherAssert.assertThat(
+                packed.EOappend(new EOint(1)).EOlength()._getData().toInt(),
+                is(4L)
+        );
+    }
+
+    /**
+     * Checks that the slices and the reversed copies of packed arrays (and their combinations)
+     * have the same elements as the ones of arrays of objects.
+     */
+    @Test
+    void slicedAndReversedPackedArraysBehaveAsArraysOfObjects() {
+        EOObject[] objects = new EOObject[10];
+        for (int i = 0; i < objects.length; i++) {
+            objects[i] = new EOint(i * 7 % 10);
+        }
+        EOarray packed = new EOarray(objects);
+        EOarray unpacked = new EOarray(objects).EOappend(new EOstring("end")).EOslice(new EOint(0), new EOint(10));
+        EOarray[][] pairs = {
+                {packed.EOslice(new EOint(2), new EOint(8)), unpacked.EOslice(new EOint(2), new EOint(8))},
+                {packed.EOreverse().EOslice(new EOint(1), new EOint(6)), unpacked.EOreverse().EOslice(new EOint(1), new EOint(6))},
+                {
+                        packed.EOslice(new EOint(3), new EOint(9)).EOreverse().EOslice(new EOint(1), new EOint(4)).EOreverse(),
+                        unpacked.EOslice(new EOint(3), new EOint(9)).EOreverse().EOslice(new EOint(1), new EOint(4)).EOreverse()
+                },
+        };
+        for (EOarray[] pair : pairs) {
+            long length = pair[1].EOlength()._getData().toInt();
+            MatcherAssert.assertThat(pair[0].EOlength()._getData().toInt(), is(length));
+            for (int i = 0; i < length; i++) {
+                MatcherAssert.assertThat(
+                        pair[0].EOget(new EOint(i))._getData().toInt(),
+                        is(pair[1].EOget(new EOint(i))._getData().toInt())
+                );
+            }
+            MatcherAssert.assertThat(pair[0].EOmin(), is(pair[1].EOmin()));
+            MatcherAssert.assertThat(pair[0].EOsort(), is(pair[1].EOsort()));
+            MatcherAssert.assertThat(pair[0]._getData().toInt(), is(pair[1]._getData().toInt()));
+        }
+        EOarray floats = new EOarray(new EOfloat(0.5), new EOfloat(-1.0), new EOfloat(2.5)).EOslice(new EOint(1), new EOint(3));
+        MatcherAssert.assertThat(floats.EOreverse().EOget(new EOint(0))._getData().toFloat(), is(2.5));
+        MatcherAssert.assertThat(floats.EOsort().EObinarySearch(new EOint(-1)), is(new EOint(0)));
+    }
+
+    /**
+     * Checks that reversed arrays of numbers are dataized, searched and sorted by their values in the reverse order.
+     */
+    @Test
+    void reversedPackedArraysKeepTheirValues() {
+        EOarray ints = new EOarray(new EOint(-3), new EOint(7), new EOint(-3), new EOint(10)).EOreverse();
+        MatcherAssert.assertThat(ints.EOget(new EOint(0))._getData().toInt(), is(10L));
+        MatcherAssert.assertThat(ints._getData().toInt(), is(-3L));
+        MatcherAssert.assertThat(ints.EOmin(), is(new EOint(1)));
+        EOarray sortedInts = ints.EOsort();
+        for (int i = 0; i < 4; i++) {
+            MatcherAssert.assertThat(
+                    sortedInts.EOget(new EOint(i))._getData().toInt(),
+                    is(new long[]{-3L, -3L, 7L, 10L}[i])
+            );
+        }
+        MatcherAssert.assertThat(sortedInts.EOreverse().EOreverse().EObinarySearch(new EOint(7)), is(new EOint(2)));
+        MatcherAssert.assertThat(sortedInts.EOreverse().EOreverse().EObinarySearch(new EOint(8)), is(new EOint(-4)));
+        MatcherAssert.assertThat(ints.EOreverse().EOget(new EOint(1))._getData().toInt(), is(7L));
+        EOarray floats = new EOarray(new EOfloat(0.5), new EOfloat(-1.25), new EOfloat(2.0)).EOreverse();
+        MatcherAssert.assertThat(floats.EOmin(), is(new EOint(1)));
+        MatcherAssert.assertThat(floats._getData().toFloat(), is(0.5));
+        MatcherAssert.assertThat(floats.EOsort().EOget(new EOint(2))._getData().toFloat(), is(2.0));
+        MatcherAssert.assertThat(floats.EOsort().EOreverse().EOget(new EOint(0))._getData().toFloat(), is(2.0));
+    }
+
+    /**
+     * Checks that {@code EOsort} sorts arrays with the comparator stably.
+     */
+    @Test
+    void EOsortWithComparatorIsStable() {
+        EOObject byLastDigit = new EOObject() {
+            public EOObject EOcomparator(EOint A, EOint indexA, EOint B, EOint indexB) {
+                return new EOObject() {
+                    @Override
+                    protected EOObject _decoratee() {
+                        return A.EOmod(new EOint(10)).EOsub(B.EOmod(new EOint(10)));
+                    }
+                };
+            }
+        };
+        EOarray inputArray = new EOarray(
+                new EOint(23),
+                new EOint(11),
+                new EOint(43),
+                new EOint(1),
+                new EOint(12)
+        );
+        MatcherAssert.assertThat(
+                inputArray.EOsort(byLastDigit),
+                is(new EOarray(new EOint(11), new EOint(1), new EOint(12), new EOint(23), new EOint(43)))
+        );
+        MatcherAssert.assertThat(inputArray.EOsort(EOarrayTest.intComparatorObject), is(inputArray.EOsort()));
+        MatcherAssert.assertThat(new EOarray().EOsort(byLastDigit), is(new EOarray()));
+    }
+
+    /**
+     * Checks that {@code EOsort} without a comparator sorts ints, floats and strings by their data.
+     */
+    @Test
+    void EOsortWithoutComparator() {
+        MatcherAssert.assertThat(
+                new EOarray(new EOint(3), new EOint(-1), new EOint(2)).EOsort(),
+                is(new EOarray(new EOint(-1), new EOint(2), new EOint(3)))
+        );
+        EOarray floats = new EOarray(new EOfloat(0.5), new EOfloat(-1.5), new EOfloat(0.25)).EOsort();
+        MatcherAssert.assertThat(floats.EOget(new EOint(0))._getData().toFloat(), is(-1.5));
+        MatcherAssert.assertThat(floats.EOget(new EOint(2))._getData().toFloat(), is(0.5));
+        MatcherAssert.assertThat(
+                new EOarray(new EOstring("pear"), new EOstring("apple"), new EOstring("fig")).EOsort(),
+                is(new EOarray(new EOstring("apple"), new EOstring("fig"), new EOstring("pear")))
+        );
+        MatcherAssert.assertThat(
+                new EOarray(new EOint(2), new EOfloat(1.5), new EOint(1)).EOsort().EOget(new EOint(1))._getData().toFloat(),
+                is(1.5)
+        );
+        assertThrows(RuntimeException.class, () -> new EOarray(new EOint(2), new EOstring("2")).EOsort());
+    }
+
+    /**
+     * Checks that {@code EObinarySearch} finds the first occurrence of the key or its insertion point.
+     */
+    @Test
+    void EObinarySearchFindsFirstOccurrence() {
+        EOarray ints = new EOarray(new EOint(1), new EOint(3), new EOint(3), new EOint(3), new EOint(7));
+        MatcherAssert.assertThat(ints.EObinarySearch(new EOint(3)), is(new EOint(1)));
+        MatcherAssert.assertThat(ints.EObinarySearch(new EOint(7)), is(new EOint(4)));
+        MatcherAssert.assertThat(ints.EObinarySearch(new EOint(0)), is(new EOint(-1)));
+        MatcherAssert.assertThat(ints.EObinarySearch(new EOint(5)), is(new EOint(-5)));
+        MatcherAssert.assertThat(ints.EObinarySearch(new EOint(8)), is(new EOint(-6)));
+        MatcherAssert.assertThat(
+                ints.EObinarySearch(new EOint(3), EOarrayTest.intComparatorObject),
+                is(new EOint(1))
+        );
+        MatcherAssert.assertThat(
+                new EOarray(new EOstring("apple"), new EOstring("fig")).EObinarySearch(new EOstring("fig")),
+                is(new EOint(1))
+        );
+        MatcherAssert.assertThat(new EOarray().EObinarySearch(new EOint(1)), is(new EOint(-1)));
+    }
+
+    /**
+     * Checks that {@code EObinarySearch} compares ints with floats by their values in packed arrays and compares strings.
+     */
+    @Test
+    void EObinarySearchComparesNumbersAndStrings() {
+        EOarray floats = new EOarray(new EOfloat(-1.5), new EOfloat(0.5), new EOfloat(0.5), new EOfloat(2.0));
+        MatcherAssert.assertThat(floats.EObinarySearch(new EOfloat(0.5)), is(new EOint(1)));
+        MatcherAssert.assertThat(floats.EObinarySearch(new EOint(2)), is(new EOint(3)));
+        MatcherAssert.assertThat(floats.EObinarySearch(new EOint(1)), is(new EOint(-4)));
+        MatcherAssert.assertThat(floats.EObinarySearch(new EOfloat(3.0)), is(new EOint(-5)));
+        EOarray ints = new EOarray(new EOint(-2), new EOint(1), new EOint(4));
+        MatcherAssert.assertThat(ints.EObinarySearch(new EOfloat(1.0)), is(new EOint(1)));
+        MatcherAssert.assertThat(ints.EObinarySearch(new EOfloat(1.5)), is(new EOint(-3)));
+        EOarray strings = new EOarray(new EOstring("apple"), new EOstring("fig"), new EOstring("kiwi"));
+        MatcherAssert.assertThat(strings.EObinarySearch(new EOstring("kiwi")), is(new EOint(2)));
+        MatcherAssert.assertThat(strings.EObinarySearch(new EOstring("banana")), is(new EOint(-2)));
+        assertThrows(RuntimeException.class, () -> floats.EObinarySearch(new EOstring("fig")));
+        assertThrows(RuntimeException.class, () -> strings.EObinarySearch(new EOint(1)));
+    }
+
     /**
      * Checks that {@code EOpairs} does not guarantee uniqueness of pairs when elements of an array are not unique.
      */
@@ -679,6 +1073,69 @@ class EOarrayTest {
         MatcherAssert.assertThat(resultArray, is(expectedResultArray));
     }
 
+    /**
+     * Checks that {@code EOpairs} computes every pair of large arrays from its position in the lexicographic order.
+     */
+    @Test
+    void EOpairsComputesPairsByPositions() {
+        EOObject[] elements = new EOObject[300];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = new EOint(i);
+        }
+        EOarray pairs = new EOarray(elements).EOpairs();
+        int position = 0;
+        for (int i = 0; i < elements.length; i++) {
+            for (int j = i + 1; j < elements.length; j++) {
+                MatcherAssert.assertThat(
+                        pairs.EOget(new EOint(position++)),
+                        is(new EOtuple(elements[i], elements[j]))
+                );
+            }
+        }
+        MatcherAssert.assertThat(pairs.EOlength()._getData().toInt(), is((long) position));
+        EOarray huge = new EOarray(new EOObject[50_000]).EOreplace(new EOint(49_999), new EOint(7));
+        MatcherAssert.assertThat(huge.EOpairs().EOlength()._getData().toInt(), is(1_249_975_000L));
+        MatcherAssert.assertThat(
+                ((EOtuple) huge.EOpairs().EOget(new EOint(1_249_974_999)))._getAttribute("EOsnd"),
+                is(new EOint(7))
+        );
+    }
+
+    /**
+     * Checks that {@code EOpairs} pairs the arrays of 65536 elements, which have almost {@code Integer.MAX_VALUE} pairs,
+     * and rejects larger arrays with a clear error.
+     */
+    @Test
+    void EOpairsHandlesLimitOfArrayLength() {
+        EOarray largest = new EOarray(new EOObject[65_536])
+                .EOreplace(new EOint(65_534), new EOint(1))
+                .EOreplace(new EOint(65_535), new EOint(2));
+        EOarray pairs = largest.EOpairs();
+        MatcherAssert.assertThat(pairs.EOlength()._getData().toInt(), is(2_147_450_880L));
+        MatcherAssert.assertThat(pairs.EOget(new EOint(2_147_450_879L)), is(new EOtuple(new EOint(1), new EOint(2))));
+        EOarray tooLarge = largest.EOappend(new EOint(3));
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, tooLarge::EOpairs);
+        MatcherAssert.assertThat(error.getMessage(), Matchers.containsString("65537 elements"));
+        MatcherAssert.assertThat(error.getMessage(), Matchers.containsString("eachPair"));
+    }
+
+    /**
+     * Checks that {@code EOeachPair} evaluates each pair of elements in the order of {@code EOpairs}.
+     */
+    @Test
+    void EOeachPairEvaluatesPairsInOrder() {
+        StringBuilder evaluated = new StringBuilder();
+        EOObject evaluatorObject = new EOObject() {
+            public EOObject EOeachPair(EOint first, EOint second) {
+                evaluated.append(first._getData().toInt()).append(second._getData().toInt()).append(' ');
+                return first;
+            }
+        };
+        EOarray inputArray = new EOarray(new EOint(1), new EOint(2), new EOint(3));
+        MatcherAssert.assertThat(inputArray.EOeachPair(evaluatorObject)._getData().toBoolean(), is(true));
+        MatcherAssert.assertThat(evaluated.toString(), is("12 13 23 "));
+    }
+
     /**
      * Checks that {@code EOpairs} returns empty arrays when working with empty arrays.
      */
@@ -719,6 +1176,47 @@ class EOarrayTest {
         MatcherAssert.assertThat(reducedValue._getData().toInt(), is(expectedResult));
     }
 
+    /**
+     * Checks that {@code EOparReduce} merges the partial accumulators of large arrays in the order of the elements.
+     */
+    @Test
+    void EOparReduceCombinesPartsInOrder() {
+        EOObject[] elements = new EOObject[5_000];
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = new EOstring(Integer.toString(i % 10));
+            expected.append(i % 10);
+        }
+        EOObject reducerObject = new EOObject() {
+            public EOObject EOreduce(EOstring subtotal, EOObject element) {
+                return new EOObject() {
+                    @Override
+                    protected EOObject _decoratee() {
+                        return subtotal.EOappend(element);
+                    }
+                };
+            }
+        };
+        EOObject combinerObject = new EOObject() {
+            public EOObject EOcombine(EOstring left, EOObject right) {
+                return new EOObject() {
+                    @Override
+                    protected EOObject _decoratee() {
+                        return left.EOappend(right);
+                    }
+                };
+            }
+        };
+        MatcherAssert.assertThat(
+                new EOarray(elements).EOparReduce(new EOstring(""), reducerObject, combinerObject)._getData().toString(),
+                is(expected.toString())
+        );
+        MatcherAssert.assertThat(
+                new EOarray().EOparReduce(new EOstring("empty"), reducerObject, combinerObject)._getData().toString(),
+                is("empty")
+        );
+    }
+
     /**
      * Checks that {@code EOreduce} return the initial value when working with empty arrays.
      */
@@ -1048,6 +1546,73 @@ class EOarrayTest {
         MatcherAssert.assertThat(outputArray, is(expectedOutputArray));
     }
 
+    /**
+     * Checks that {@code EOslice} retrieves the parts of arrays, including the slices of slices.
+     */
+    @Test
+    void EOsliceRetrievesParts() {
+        EOarray inputArray = new EOarray(
+                new EOint(1),
+                new EOint(2),
+                new EOint(3),
+                new EOint(4),
+                new EOint(5)
+        );
+        EOarray slice = inputArray.EOslice(new EOint(1), new EOint(4));
+        MatcherAssert.assertThat(slice, is(new EOarray(new EOint(2), new EOint(3), new EOint(4))));
+        MatcherAssert.assertThat(slice.EOslice(new EOint(1), new EOint(3)), is(new EOarray(new EOint(3), new EOint(4))));
+        MatcherAssert.assertThat(inputArray.EOslice(new EOint(5), new EOint(5)), is(new EOarray()));
+        MatcherAssert.assertThat(
+                slice.EOreverse().EOappend(new EOint(0)),
+                is(new EOarray(new EOint(4), new EOint(3), new EOint(2), new EOint(0)))
+        );
+    }
+
+    /**
+     * Checks that {@code EOslice} fails when the positions are out of bounds.
+     */
+    @Test
+    void EOsliceFailsWithWrongPositions() {
+        EOarray inputArray = new EOarray(new EOint(1), new EOint(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> inputArray.EOslice(new EOint(-1), new EOint(1)));
+        assertThrows(IndexOutOfBoundsException.class, () -> inputArray.EOslice(new EOint(2), new EOint(1)));
+        assertThrows(IndexOutOfBoundsException.class, () -> inputArray.EOslice(new EOint(0), new EOint(3)));
+        assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> inputArray.EOslice(new EOint(1), new EOint(2)).EOget(new EOint(1))
+        );
+    }
+
+    /**
+     * Checks that {@code EOmap} transforms only the accessed elements, and each of them only once.
+     */
+    @Test
+    void EOmapTransformsElementsLazily() {
+        AtomicInteger transformations = new AtomicInteger();
+        EOObject mapperObject = new EOObject() {
+            public EOObject EOmap(EOint element) {
+                transformations.incrementAndGet();
+                return new EOObject() {
+                    @Override
+                    protected EOObject _decoratee() {
+                        return element.EOneg();
+                    }
+                };
+            }
+        };
+        EOObject[] elements = new EOObject[1_000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = new EOint(i);
+        }
+        EOarray mapped = new EOarray(elements).EOreverse().EOmap(mapperObject);
+        MatcherAssert.assertThat(mapped.EOget(new EOint(0)), is(new EOint(-999)));
+        MatcherAssert.assertThat(mapped.EOget(new EOint(0)), is(new EOint(-999)));
+        MatcherAssert.assertThat(transformations.get(), is(1));
+        MatcherAssert.assertThat(mapped.EOlength(), is(new EOint(1_000)));
+        MatcherAssert.assertThat(mapped.EOget(new EOint(999)), is(new EOint(0)));
+        MatcherAssert.assertThat(transformations.get(), is(2));
+    }
+
     /**
      * Checks array datarization.
      */
@@ -79,4 +79,18 @@ class EOboolTest {
                 Matchers.equalTo(true)
         );
     }
-}
\ No newline at end of file
+
+    /***
+     * Test for {@code of}
+     * checks if the canonical bools are returned
+     */
+    @Test
+    void of() {
+        MatcherAssert.assertThat(EObool.of(true), Matchers.sameInstance(EObool.TRUE));
+        MatcherAssert.assertThat(EObool.of(false), Matchers.sameInstance(EObool.FALSE));
+        MatcherAssert.assertThat(
+                new EObool(true).EOnot()._getData().toBoolean(),
+                Matchers.equalTo(false)
+        );
+    }
+}
@@ -291,4 +291,19 @@ class EOintTest {
 
         MatcherAssert.assertThat(floatValue._getData().toFloat(), Matchers.equalTo(2.0));
     }
-}
\ No newline at end of file
+
+    /***
+     * Test for {@code of}
+     * checks if small ints are canonical, while large ones are still created
+     */
+    @Test
+    void of() {
+        MatcherAssert.assertThat(EOint.of(7L), Matchers.sameInstance(EOint.of(7L)));
+        MatcherAssert.assertThat(
+                new EOint(3L).EOadd(new EOint(4L)),
+                Matchers.sameInstance(EOint.of(7L))
+        );
+        MatcherAssert.assertThat(EOint.of(1_000_000L)._getData().toInt(), Matchers.equalTo(1_000_000L));
+        MatcherAssert.assertThat(EOint.of(-1_000_000L)._getData().toInt(), Matchers.equalTo(-1_000_000L));
+    }
+}
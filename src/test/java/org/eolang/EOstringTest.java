@@ -6,6 +6,7 @@ import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 
+import java.lang.ref.WeakReference;
 import java.security.InvalidParameterException;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -86,6 +87,106 @@ class EOstringTest {
         );
     }
 
+    /***
+     * Test for {@code EOsplit}
+     * checks that the pieces of appended strings and of substrings can be split and trimmed again
+     */
+    @Test
+    void EOsplitOfPieces() {
+        EOstring string = new EOstring("head;").EOappend(new EOstring(" a, b ;c, d;"), new EOstring("tail"));
+        EOarray lines = string.EOsubstring(new EOint(5L), new EOint(16L)).EOsplit(new EOstring(";"));
+        MatcherAssert.assertThat(lines.EOlength()._getData().toInt(), Matchers.equalTo(2L));
+        EOstring first = (EOstring) lines.EOget(new EOint(0L));
+        MatcherAssert.assertThat(first.EOtrim()._getData().toString(), Matchers.equalTo("a, b"));
+        EOarray words = first.EOsplit(new EOstring(","));
+        MatcherAssert.assertThat(words.EOget(new EOint(1L))._getData().toString(), Matchers.equalTo(" b "));
+        MatcherAssert.assertThat(lines.EOget(new EOint(1L))._getData().toString(), Matchers.equalTo("c, d"));
+    }
+
+    /***
+     * Test for {@code EOsubstring}
+     * checks that a long substring keeps the large string reachable only until the substring is dataized
+     */
+    @Test
+    void EOsubstringReleasesLargeStringAfterDataization() throws InterruptedException {
+        String large = new String(new char[1_000_000]).replace('\0', 'y');
+        WeakReference<String> reference = new WeakReference<>(large);
+        EOstring half = new EOstring(large).EOsubstring(new EOint(0L), new EOint(500_000L));
+        large = null;
+        MatcherAssert.assertThat(half._getData().toString().length(), Matchers.equalTo(500_000));
+        for (int attempt = 0; attempt < 50 && reference.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        MatcherAssert.assertThat(reference.get(), Matchers.nullValue());
+        MatcherAssert.assertThat(
+                half.EOappend(new EOstring("z")).EOsubstring(new EOint(499_998L), new EOint(500_001L))._getData().toString(),
+                Matchers.equalTo("yyz")
+        );
+    }
+
+    /***
+     * Test for {@code EOsplit}
+     * checks that the pieces share the characters of a large string only until they are dataized
+     */
+    @Test
+    void EOsplitReleasesLargeStringAfterDataization() throws InterruptedException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            builder.append("word").append(i).append(' ');
+        }
+        String large = builder.toString();
+        WeakReference<String> reference = new WeakReference<>(large);
+        EOarray words = new EOstring(large).EOsplit(new EOstring(" "));
+        large = null;
+        builder = null;
+        for (int i = 0; i < 100_000; i++) {
+            MatcherAssert.assertThat(words.EOget(new EOint(i))._getData().toString(), Matchers.equalTo("word" + i));
+        }
+        for (int attempt = 0; attempt < 50 && reference.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        MatcherAssert.assertThat(reference.get(), Matchers.nullValue());
+        MatcherAssert.assertThat(words.EOget(new EOint(99_999L))._getData().toString(), Matchers.equalTo("word99999"));
+    }
+
+    /***
+     * Test for {@code EOsplit}
+     * checks that the separators longer than one character are skipped entirely
+     * and that an empty separator splits a string into its characters
+     */
+    @Test
+    void EOsplitBySeparatorsOfAnyLength() {
+        EOarray pieces = new EOstring("one::two::::three").EOsplit(new EOstring("::"));
+        MatcherAssert.assertThat(
+                pieces,
+                Matchers.equalTo(new EOarray(new EOstring("one"), new EOstring("two"), new EOstring(""), new EOstring("three")))
+        );
+        MatcherAssert.assertThat(
+                new EOstring("abc").EOsplit(new EOstring("")),
+                Matchers.equalTo(new EOarray(new EOstring("a"), new EOstring("b"), new EOstring("c")))
+        );
+    }
+
+    /***
+     * Test for {@code EOsplitRegex}
+     * checks that a string is split by the matches of a regular expression, and that the expression is compiled once
+     */
+    @Test
+    void EOsplitRegex() {
+        EOarray pieces = new EOstring("GET  /index.html\tHTTP/1.1").EOsplitRegex(new EOstring("\\s+"));
+        MatcherAssert.assertThat(
+                pieces,
+                Matchers.equalTo(new EOarray(new EOstring("GET"), new EOstring("/index.html"), new EOstring("HTTP/1.1")))
+        );
+        MatcherAssert.assertThat(
+                new EOstring("a1b22c333").EOsplitRegex(new EOstring("[0-9]+")),
+                Matchers.equalTo(new EOarray(new EOstring("a"), new EOstring("b"), new EOstring("c")))
+        );
+        MatcherAssert.assertThat(EOPatterns.compile("\\s+"), Matchers.sameInstance(EOPatterns.compile("\\s+")));
+    }
+
     /***
      * Test for {@code EOappend}
      */
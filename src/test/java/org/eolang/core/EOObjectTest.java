@@ -0,0 +1,226 @@
+package org.eolang.core;
+
+import org.eolang.EObool;
+import org.eolang.EOint;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
+
+/**
+ * Test cases for {@link EOObject}.
+ */
+class EOObjectTest {
+
+    /**
+     * Wraps {@code object} into {@code depth} decorators that declare no attributes.
+     */
+    private static EOObject decorate(EOObject object, int depth) {
+        EOObject result = object;
+        for (int i = 0; i < depth; i++) {
+            final EOObject decoratee = result;
+            result = new EOObject() {
+                @Override
+                protected EOObject _decoratee() {
+                    return decoratee;
+                }
+            };
+        }
+        return result;
+    }
+
+    /**
+     * Checks that {@code _getAttribute} finds an attribute declared by the object itself.
+     */
+    @Test
+    void getAttributeFindsDeclaredAttribute() {
+        MatcherAssert.assertThat(
+                new EOint(5)._getAttribute("EOadd", new EOint(2))._getData().toInt(),
+                Matchers.equalTo(7L)
+        );
+    }
+
+    /**
+     * Checks that {@code _getAttribute} finds an attribute declared deep in the decoration hierarchy.
+     */
+    @Test
+    void getAttributeWalksDecorationHierarchy() {
+        EOObject decorated = decorate(new EOint(5), 5);
+        MatcherAssert.assertThat(
+                decorated._getAttribute("EOadd", new EOint(2))._getData().toInt(),
+                Matchers.equalTo(7L)
+        );
+    }
+
+    /**
+     * Checks that {@code _getAttribute} delivers messages through thunks in the decoration hierarchy.
+     */
+    @Test
+    void getAttributeWalksThroughThunks() {
+        EOObject decorated = decorate(new EOThunk(() -> decorate(new EOint(5), 2)), 2);
+        MatcherAssert.assertThat(
+                decorated._getAttribute("EOsub", new EOint(2))._getData().toInt(),
+                Matchers.equalTo(3L)
+        );
+    }
+
+    /**
+     * Checks that {@code _getAttribute} fails when nor the object, neither its decoratees declare the attribute.
+     */
+    @Test
+    void getAttributeFailsForMissingAttribute() {
+        EOObject decorated = decorate(new EOint(5), 3);
+        MatcherAssert.assertThat(
+                () -> decorated._getAttribute("EOmissing"),
+                throwsException(RuntimeException.class)
+                        .withMessage(
+                                String.format(
+                                        "Can't access the EOmissing attribute of the %s object",
+                                        EOint.class.getTypeName()
+                                )
+                        )
+        );
+    }
+
+    /**
+     * Checks that {@code _getAttribute} selects the overload of the attribute by the number of the arguments.
+     */
+    @Test
+    void getAttributeSelectsOverloadByArity() {
+        EOObject object = new EOObject() {
+            public EOObject EOpick(EOObject first) {
+                return new EOint(1);
+            }
+
+            public EOObject EOpick(EOObject first, EOObject second) {
+                return new EOint(2);
+            }
+        };
+        MatcherAssert.assertThat(
+                object._getAttribute("EOpick", new EOint(0))._getData().toInt(),
+                Matchers.equalTo(1L)
+        );
+        MatcherAssert.assertThat(
+                object._getAttribute("EOpick", new EOint(0), new EOint(0))._getData().toInt(),
+                Matchers.equalTo(2L)
+        );
+    }
+
+    /**
+     * Checks that {@code _getAttribute} packs the rest of the arguments into the varargs array
+     * both for the fixed-arity and the varargs entry points.
+     */
+    @Test
+    void getAttributePacksVarargs() {
+        EObool bool = new EObool(true);
+        MatcherAssert.assertThat(
+                bool._getAttribute("EOand", new EObool(true), new EObool(true))._getData().toBoolean(),
+                Matchers.equalTo(true)
+        );
+        MatcherAssert.assertThat(
+                bool._getAttribute(
+                        "EOand",
+                        new EObool(true), new EObool(true), new EObool(true), new EObool(true), new EObool(false)
+                )._getData().toBoolean(),
+                Matchers.equalTo(false)
+        );
+    }
+
+    /**
+     * Checks that the objects without generated dispatchers expose only the public non-static methods
+     * with the 'EO' prefix as attributes, just like the generated dispatchers do.
+     */
+    @Test
+    void getAttributeIgnoresMethodsOtherThanAttributes() {
+        EOObject object = new EOObject() {
+            public EOObject plain() {
+                return new EOint(1);
+            }
+
+            public EOObject EOsized(int size) {
+                return new EOint(size);
+            }
+        };
+        MatcherAssert.assertThat(EODispatcher.of(object.getClass()), Matchers.instanceOf(EOAttributeTable.class));
+        for (String name : new String[] {"plain", "toString", "hashCode", "getClass", "EOsized"}) {
+            MatcherAssert.assertThat(
+                    () -> object._getAttribute(name),
+                    throwsException(RuntimeException.class)
+                            .withMessage(String.format("Can't access the %s attribute of the %s object", name, object.getClass().getTypeName()))
+            );
+        }
+        MatcherAssert.assertThat(
+                () -> new EOint(1)._getAttribute("of", new EOint(2)),
+                throwsException(RuntimeException.class)
+        );
+    }
+
+    /**
+     * Checks that the standard objects are dispatched through the generated dispatchers,
+     * while the objects compiled without the processor (e.g., anonymous ones) rely on reflection.
+     */
+    @Test
+    void standardObjectsHaveGeneratedDispatchers() {
+        MatcherAssert.assertThat(
+                EODispatcher.of(EOint.class).getClass().getName(),
+                Matchers.equalTo(EOint.class.getName() + EODispatcher.SUFFIX)
+        );
+        MatcherAssert.assertThat(
+                EODispatcher.of(new EOObject() {}.getClass()),
+                Matchers.instanceOf(EOAttributeTable.class)
+        );
+    }
+
+    /**
+     * Checks that {@code _getData} unwinds very long decoration hierarchies without overflowing the call stack.
+     */
+    @Test
+    void getDataUnwindsDeepDecorationHierarchy() {
+        EOObject decorated = decorate(new EOint(5), 1_000_000);
+        MatcherAssert.assertThat(decorated._getData().toInt(), Matchers.equalTo(5L));
+    }
+
+    /**
+     * Checks that deeply nested strict dataization (each object dataizes the previous one to build its decoratee)
+     * does not overflow the call stack.
+     */
+    @Test
+    void getDataEvaluatesDeeplyNestedDataizations() {
+        MatcherAssert.assertThat(strictChain(100_000)._getData().toInt(), Matchers.equalTo(100_000L));
+    }
+
+    /**
+     * Checks that the dataization nested deeper than all the segments of the stack can hold
+     * fails with a clear error instead of taking more threads.
+     */
+    @Test
+    void getDataFailsWhenAllSegmentsAreTaken() {
+        EOObject chain = strictChain(1_000_000);
+        MatcherAssert.assertThat(
+                chain::_getData,
+                throwsException(RuntimeException.class)
+                        .withMessage(
+                                "The dataization is nested too deeply: it has taken all the 64 segments of the stack of 16 MB. Increase the eo.stack.segments or the eo.stack system property if the recursion is meant to be that deep."
+                        )
+        );
+        MatcherAssert.assertThat(strictChain(1_000)._getData().toInt(), Matchers.equalTo(1_000L));
+    }
+
+    /**
+     * Builds a chain of {@code length} objects, where each object dataizes the previous one to build its decoratee.
+     */
+    private static EOObject strictChain(int length) {
+        EOObject chain = new EOint(0);
+        for (int i = 0; i < length; i++) {
+            final EOObject previous = chain;
+            chain = new EOObject() {
+                @Override
+                protected EOObject _decoratee() {
+                    return new EOint(previous._getData().asLong() + 1);
+                }
+            };
+        }
+        return chain;
+    }
+}
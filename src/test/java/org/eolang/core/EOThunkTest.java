@@ -0,0 +1,192 @@
+package org.eolang.core;
+
+import org.eolang.EOint;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Test cases for {@link EOThunk}.
+ */
+class EOThunkTest {
+
+    /**
+     * Checks that the thunk instantiates the wrapped object only once
+     * even if many threads dataize it simultaneously.
+     */
+    @Test
+    void instantiatesWrappedObjectOnceAcrossThreads() throws Exception {
+        int threads = 8;
+        AtomicInteger instantiations = new AtomicInteger();
+        EOThunk thunk = new EOThunk(() -> {
+            instantiations.incrementAndGet();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new EOint(42);
+        });
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return thunk._getData().toInt();
+                }));
+            }
+            start.countDown();
+            for (Future<Long> result : results) {
+                MatcherAssert.assertThat(result.get(), Matchers.equalTo(42L));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        MatcherAssert.assertThat(instantiations.get(), Matchers.equalTo(1));
+    }
+
+    /**
+     * Checks that the thunk retries the instantiation of the wrapped object if the previous attempt failed.
+     */
+    @Test
+    void retriesFailedInstantiation() {
+        AtomicInteger attempts = new AtomicInteger();
+        EOThunk thunk = new EOThunk(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("The first attempt fails");
+            }
+            return new EOint(7);
+        });
+        try {
+            thunk._getData();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        MatcherAssert.assertThat(thunk._getData().toInt(), Matchers.equalTo(7L));
+        MatcherAssert.assertThat(attempts.get(), Matchers.equalTo(2));
+    }
+
+    /**
+     * Checks that evaluated thunks do not retain the state captured by their lambdas.
+     * To do this, the test builds a long chain of thunks, where the first one captures a large array,
+     * dataizes the chain and checks that the array gets collected while the chain is still reachable.
+     */
+    @Test
+    void releasesCapturedStateAfterEvaluation() throws InterruptedException {
+        int length = 1000;
+        List<WeakReference<byte[]>> captured = new ArrayList<>();
+        EOThunk chain = lazyChain(length, captured);
+        MatcherAssert.assertThat(chain._getData().toInt(), Matchers.equalTo((long) length));
+        for (int attempt = 0; attempt < 50 && captured.get(0).get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        MatcherAssert.assertThat(captured.get(0).get(), Matchers.nullValue());
+        MatcherAssert.assertThat(chain._getData().toInt(), Matchers.equalTo((long) length));
+    }
+
+    /**
+     * Builds a chain of {@code length} thunks, where each thunk adds one to the previous one,
+     * and the first thunk captures a large array (a weak reference to it is added to {@code captured}).
+     */
+    private static EOThunk lazyChain(int length, List<WeakReference<byte[]>> captured) {
+        byte[] state = new byte[16 * 1024 * 1024];
+        captured.add(new WeakReference<>(state));
+        EOThunk chain = new EOThunk(() -> new EOint(state[0]));
+        for (int i = 0; i < length; i++) {
+            EOThunk previous = chain;
+            chain = new EOThunk(() -> previous._getAttribute("EOadd", new EOint(1)));
+        }
+        return chain;
+    }
+
+    /**
+     * Checks that very long chains of thunks instantiating each other are dataized without overflowing the call stack,
+     * even by a thread with a small stack.
+     */
+    @Test
+    void evaluatesDeepChainsOnSmallStack() throws Throwable {
+        int length = 100_000;
+        EOThunk chain = lazyChain(length, new ArrayList<>());
+        MatcherAssert.assertThat(onSmallStack(() -> chain._getData().toInt()), Matchers.equalTo((long) length));
+    }
+
+    /**
+     * Checks that a thunk depending on itself deep down a chain is reported,
+     * even if the dependency is found on another segment of the stack.
+     */
+    @Test
+    void detectsSelfDependencyOnDeepSegments() throws Throwable {
+        EOThunk[] self = new EOThunk[1];
+        EOThunk chain = new EOThunk(() -> self[0]._getAttribute("EOadd", new EOint(1)));
+        for (int i = 0; i < 10_000; i++) {
+            EOThunk previous = chain;
+            chain = new EOThunk(() -> previous._getAttribute("EOadd", new EOint(1)));
+        }
+        self[0] = chain;
+        EOThunk cycle = chain;
+        MatcherAssert.assertThat(
+                onSmallStack(() -> {
+                    try {
+                        return cycle._getData().toInt();
+                    } catch (RuntimeException e) {
+                        return e.getMessage();
+                    }
+                }),
+                Matchers.equalTo("Can't instantiate the wrapped object of the thunk: it depends on itself.")
+        );
+    }
+
+    /**
+     * Computes {@code action} in a thread with a call stack of one megabyte.
+     */
+    private static Object onSmallStack(Supplier<Object> action) throws Throwable {
+        Object[] result = new Object[1];
+        Throwable[] failure = new Throwable[1];
+        Thread thread = new Thread(
+                null,
+                () -> {
+                    try {
+                        result[0] = action.get();
+                    } catch (Throwable e) {
+                        failure[0] = e;
+                    }
+                },
+                "small-stack",
+                1024L * 1024L
+        );
+        thread.start();
+        thread.join();
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        return result[0];
+    }
+
+    /**
+     * Checks that the thunk wrapping a chain of other thunks delivers messages directly to the final object.
+     */
+    @Test
+    void compressesChainsOfThunks() {
+        EOint target = new EOint(5);
+        EOThunk chain = new EOThunk(() -> target);
+        for (int i = 0; i < 100; i++) {
+            EOThunk previous = chain;
+            chain = new EOThunk(() -> previous);
+        }
+        MatcherAssert.assertThat(chain._getData().toInt(), Matchers.equalTo(5L));
+        MatcherAssert.assertThat(chain._receiver(), Matchers.sameInstance(target));
+    }
+}
@@ -0,0 +1,86 @@
+package org.eolang.core.data;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link EOData} and its primitive-specialized subclasses.
+ */
+class EODataTest {
+
+    /**
+     * Checks that {@code actual} converts to all the types the same way as {@code expected}.
+     */
+    private static void assertSameConversions(EOData actual, EOData expected) {
+        MatcherAssert.assertThat(actual.toString(), Matchers.equalTo(expected.toString()));
+        MatcherAssert.assertThat(actual.toObject(), Matchers.equalTo(expected.toObject()));
+        MatcherAssert.assertThat(actual.toInt(), Matchers.equalTo(expected.toInt()));
+        MatcherAssert.assertThat(actual.toFloat(), Matchers.equalTo(expected.toFloat()));
+        MatcherAssert.assertThat(actual.toBoolean(), Matchers.equalTo(expected.toBoolean()));
+        MatcherAssert.assertThat(actual.toChar(), Matchers.equalTo(expected.toChar()));
+        MatcherAssert.assertThat(actual.asLong(), Matchers.equalTo(expected.asLong()));
+        MatcherAssert.assertThat(actual.asDouble(), Matchers.equalTo(expected.asDouble()));
+        MatcherAssert.assertThat(actual.asBoolean(), Matchers.equalTo(expected.asBoolean()));
+        MatcherAssert.assertThat(actual.asChar(), Matchers.equalTo(expected.asChar()));
+        MatcherAssert.assertThat(actual.isInteger(), Matchers.equalTo(expected.isInteger()));
+        MatcherAssert.assertThat(actual.isFloat(), Matchers.equalTo(expected.isFloat()));
+    }
+
+    /**
+     * Checks that the integer data converts to the other types the same way the boxed data does.
+     */
+    @Test
+    void longDataConvertsLikeBoxedData() {
+        assertSameConversions(new EOLongData(42L), new EOData(42L));
+        assertSameConversions(new EOLongData(0L), new EOData(0L));
+    }
+
+    /**
+     * Checks that the floating-point data converts to the other types the same way the boxed data does.
+     */
+    @Test
+    void doubleDataConvertsLikeBoxedData() {
+        assertSameConversions(new EODoubleData(2.5), new EOData(2.5));
+        assertSameConversions(new EODoubleData(-0.0), new EOData(-0.0));
+    }
+
+    /**
+     * Checks that the boolean data converts to the other types the same way the boxed data does.
+     */
+    @Test
+    void booleanDataConvertsLikeBoxedData() {
+        assertSameConversions(new EOBooleanData(true), new EOData(true));
+        assertSameConversions(new EOBooleanData(false), new EOData(false));
+    }
+
+    /**
+     * Checks that the character data converts to the other types the same way the boxed data does.
+     */
+    @Test
+    void charDataConvertsLikeBoxedData() {
+        assertSameConversions(new EOCharData('J'), new EOData('J'));
+    }
+
+    /**
+     * Checks that the text data converts to the other types the same way the boxed string does.
+     */
+    @Test
+    void textDataConvertsLikeBoxedData() {
+        assertSameConversions(new EOTextData(new StringBuilder("42")), new EOData("42"));
+        assertSameConversions(new EOTextData(""), new EOData(""));
+    }
+
+    /**
+     * Checks that the text data keeps only the string once it is created from the characters.
+     */
+    @Test
+    void textDataKeepsOnlyCreatedString() {
+        StringBuilder chars = new StringBuilder("text");
+        EOTextData data = new EOTextData(chars);
+        MatcherAssert.assertThat(data.chars(), Matchers.sameInstance(chars));
+        String string = data.toString();
+        MatcherAssert.assertThat(data.chars(), Matchers.sameInstance(string));
+        MatcherAssert.assertThat(data.toString(), Matchers.sameInstance(string));
+    }
+}
@@ -0,0 +1,169 @@
+package org.eolang.io;
+
+import org.eolang.EOstring;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test cases for {@link EOOutput}
+ */
+class EOOutputTest {
+
+    /***
+     * Checks that the text printed by {@code stdout} is written to the current {@link System#out} right away
+     * when the output is not buffered
+     */
+    @Test
+    void printsToCurrentStdout() {
+        PrintStream systemStdout = System.out;
+        try {
+            ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+            System.setOut(new PrintStream(stdout));
+            new EOstdout(new EOstring("Hello, "))._getData();
+            EOOutput.print("world");
+            MatcherAssert.assertThat(stdout.toString(), Matchers.equalTo("Hello, world"));
+        } finally {
+            System.setOut(systemStdout);
+        }
+    }
+
+    /***
+     * Checks that the {@code size} policy writes the text only when the buffer is full or flushed
+     */
+    @Test
+    void flushesFullBuffer() {
+        ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        EOOutput.Sink sink = new EOOutput.Sink(new PrintStream(stdout), "size", 8, 100L);
+        sink.print("abc");
+        sink.print("defgh");
+        MatcherAssert.assertThat(stdout.toString(), Matchers.equalTo(""));
+        sink.print("i\n");
+        MatcherAssert.assertThat(stdout.toString(), Matchers.equalTo("abcdefgh"));
+        sink.print("long text, longer than the buffer");
+        MatcherAssert.assertThat(stdout.toString(), Matchers.equalTo("abcdefghi\nlong text, longer than the buffer"));
+        sink.print("j");
+        sink.flush();
+        MatcherAssert.assertThat(stdout.toString(), Matchers.equalTo("abcdefghi\nlong text, longer than the buffer" + "j"));
+    }
+
+    /***
+     * Checks that the {@code line} policy writes the text containing line breaks right away
+     */
+    @Test
+    void flushesLines() {
+        ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        EOOutput.Sink sink = new EOOutput.Sink(new PrintStream(stdout), "line", 1024, 100L);
+        sink.print("one");
+        MatcherAssert.assertThat(stdout.toString(), Matchers.equalTo(""));
+        sink.print("\ntwo");
+        MatcherAssert.assertThat(stdout.toString(), Matchers.equalTo("one\ntwo"));
+    }
+
+    /***
+     * Checks that the {@code time} policy writes the text after a while
+     */
+    @Test
+    void flushesPeriodically() throws InterruptedException {
+        ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        EOOutput.Sink sink = new EOOutput.Sink(new PrintStream(stdout), "time", 1024, 10L);
+        sink.print("tick");
+        for (int i = 0; i < 500 && stdout.size() == 0; i++) {
+            Thread.sleep(10L);
+        }
+        MatcherAssert.assertThat(stdout.toString(), Matchers.equalTo("tick"));
+    }
+
+    /***
+     * Checks that an unknown flush policy is rejected
+     */
+    @Test
+    void rejectsUnknownPolicy() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new EOOutput.Sink(new PrintStream(new ByteArrayOutputStream()), "never", 1024, 100L)
+        );
+    }
+
+    /***
+     * Checks that the writer thread writes all the text in order, waiting for free slots when the ring is full
+     */
+    @Test
+    void writesAsynchronouslyInOrder() {
+        ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        PrintStream target = new PrintStream(stdout);
+        EOOutput.Sink sink = new EOOutput.Sink(target, "line", 16, 100L, new EOAsyncSink(target, 2, "block"));
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            String line = i + "\n";
+            sink.print(line);
+            expected.append(line);
+        }
+        sink.flush();
+        MatcherAssert.assertThat(stdout.toString(), Matchers.equalTo(expected.toString()));
+    }
+
+    /***
+     * Checks that the chunks are dropped instead of blocking the printing thread when the target is stalled,
+     * and that the dropped chunks are reported once on flush
+     */
+    @Test
+    void dropsChunksWhenFull() throws InterruptedException {
+        CountDownLatch stall = new CountDownLatch(1);
+        ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        PrintStream target = new PrintStream(
+                new OutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        try {
+                            stall.await();
+                        } catch (InterruptedException e) {
+                            throw new IOException(e);
+                        }
+                        stdout.write(b);
+                    }
+                }
+        );
+        ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+        EOAsyncSink async = new EOAsyncSink(target, 2, "drop", new PrintStream(stderr));
+        for (int i = 0; i < 10; i++) {
+            async.offer(Integer.toString(i));
+        }
+        stall.countDown();
+        async.drain();
+        long dropped = 10L - stdout.size();
+        MatcherAssert.assertThat(dropped, Matchers.greaterThanOrEqualTo(7L));
+        MatcherAssert.assertThat(stdout.toString(), Matchers.startsWith("0"));
+        MatcherAssert.assertThat(
+                stderr.toString(),
+                Matchers.equalTo(
+                        String.format(
+                                "%d chunk(s) of the standard output were dropped, since 2 chunk(s) were waiting to be written (see eo.stdout.full).%n",
+                                dropped
+                        )
+                )
+        );
+        async.drain();
+        MatcherAssert.assertThat(stderr.toString(), Matchers.containsString(dropped + " chunk(s)"));
+        MatcherAssert.assertThat(stderr.toString().split("\\R").length, Matchers.equalTo(1));
+    }
+
+    /***
+     * Checks that an unknown overflow policy is rejected
+     */
+    @Test
+    void rejectsUnknownOverflowPolicy() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new EOAsyncSink(new PrintStream(new ByteArrayOutputStream()), 16, "wait")
+        );
+    }
+}
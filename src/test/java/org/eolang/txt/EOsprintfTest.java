@@ -0,0 +1,121 @@
+package org.eolang.txt;
+
+import org.eolang.EOfloat;
+import org.eolang.EOint;
+import org.eolang.EOstring;
+import org.eolang.core.EOObject;
+import org.eolang.core.data.EODataObject;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.util.IllegalFormatConversionException;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test cases for {@link EOsprintf}
+ */
+class EOsprintfTest {
+
+    /**
+     * Checks that {@code sprintf} formats {@code args} the same way {@link String#format(String, Object...)} does.
+     */
+    private static void assertFormatsLikeString(String format, EOObject... args) {
+        Object[] objects = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            objects[i] = args[i]._getData().toObject();
+        }
+        MatcherAssert.assertThat(
+                new EOsprintf(new EOstring(format), args)._getData().toString(),
+                Matchers.equalTo(String.format(format, objects))
+        );
+    }
+
+    /***
+     * Test for the {@code %d}, {@code %s}, {@code %%} and {@code %n} conversions
+     */
+    @Test
+    void formatsIntsAndStrings() {
+        assertFormatsLikeString(
+                "The winner is %s, and they got %d points (%s%%)!%n",
+                new EOstring("Mike"), new EOint(100L), new EOint(-42L)
+        );
+        assertFormatsLikeString("%s|%s|%s", new EOfloat(0.1), new EODataObject(true), new EODataObject('c'));
+        assertFormatsLikeString("%d%d", new EOint(Long.MIN_VALUE), new EOint(Long.MAX_VALUE), new EOint(1L));
+        assertFormatsLikeString("no conversions");
+        assertFormatsLikeString("");
+    }
+
+    /***
+     * Test for the {@code %f} conversion
+     * Checks random, rounded and special values
+     */
+    @Test
+    void formatsFloats() {
+        double[] values = {
+                0.0, -0.0, 1.0, -1.5, 0.0000005, 0.0000004999, 0.15, 2.5e-7, 123456.7890125,
+                1e300, -1e-300, Double.MIN_VALUE, Double.MAX_VALUE,
+                Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY
+        };
+        for (double value : values) {
+            assertFormatsLikeString("[%f]", new EOfloat(value));
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            double value = Double.longBitsToDouble(random.nextLong());
+            assertFormatsLikeString("%f", new EOfloat(value));
+            assertFormatsLikeString("%f", new EOfloat(random.nextInt(2_000_000) / 1e7 - 0.1));
+        }
+    }
+
+    /***
+     * Test for the formats which are not compiled
+     * Checks that they are formatted the same way as by {@link String#format(String, Object...)}
+     */
+    @Test
+    void formatsOtherConversionsLikeString() {
+        assertFormatsLikeString("%5d|%-6s|%.2f|%x|%S", new EOint(7L), new EOstring("ab"), new EOfloat(1.005), new EOint(255L), new EOstring("up"));
+        assertFormatsLikeString("%2$s %1$s", new EOstring("world"), new EOstring("hello"));
+    }
+
+    /***
+     * Test for the arguments which do not fit the conversions
+     * Checks that the same exceptions are thrown as by {@link String#format(String, Object...)}
+     */
+    @Test
+    void rejectsArgumentsLikeString() {
+        assertThrows(
+                IllegalFormatConversionException.class,
+                () -> new EOsprintf(new EOstring("%d"), new EOfloat(1.0))._getData()
+        );
+        assertThrows(
+                IllegalFormatConversionException.class,
+                () -> new EOsprintf(new EOstring("%f"), new EOint(1L))._getData()
+        );
+        assertThrows(
+                MissingFormatArgumentException.class,
+                () -> new EOsprintf(new EOstring("%s and %s"), new EOstring("one"))._getData()
+        );
+    }
+
+    /***
+     * Test for the {@code %f} conversion
+     * Checks that the decimal separator of the default locale is used
+     */
+    @Test
+    void formatsFloatsInDefaultLocale() {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        try {
+            Locale.setDefault(Locale.Category.FORMAT, Locale.GERMANY);
+            assertFormatsLikeString("%f", new EOfloat(-3.25));
+            Locale.setDefault(Locale.Category.FORMAT, Locale.forLanguageTag("ar-EG"));
+            assertFormatsLikeString("%d %f", new EOint(-120L), new EOfloat(3.25));
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, locale);
+        }
+    }
+}